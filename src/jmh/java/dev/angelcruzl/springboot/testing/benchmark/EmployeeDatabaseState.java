@@ -0,0 +1,106 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.SpringbootTestingApplication;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+public class EmployeeDatabaseState {
+
+    private static final int SEED_CHUNK_SIZE = 10_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int tableSize;
+
+    public EmployeeService service;
+
+    public EmployeeRepository repository;
+
+    private ConfigurableApplicationContext context;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringbootTestingApplication.class)
+                .web(webApplicationType())
+                .run(benchmarkArguments());
+        service = context.getBean(EmployeeService.class);
+        repository = context.getBean(EmployeeRepository.class);
+
+        for (int from = 0; from < tableSize; from += SEED_CHUNK_SIZE) {
+            List<Employee> employees = new ArrayList<>(SEED_CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + SEED_CHUNK_SIZE, tableSize); i++) {
+                employees.add(seedEmployee(i));
+            }
+            service.saveEmployees(employees);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.NONE;
+    }
+
+    // Command line arguments so they take precedence over application.properties. Both caches are off, the
+    // benchmarks measure the database path.
+    protected String[] benchmarkArguments() {
+        return new String[]{
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "--spring.cache.type=none",
+                "--logging.level.root=warn"
+        };
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    public int randomSeedIndex() {
+        return ThreadLocalRandom.current().nextInt(tableSize);
+    }
+
+    public Employee newEmployee() {
+        long n = sequence.incrementAndGet();
+        return Employee.builder()
+                .firstName("New" + n)
+                .lastName("Employee" + n)
+                .email("new" + n + "-" + System.nanoTime() + "@bench.dev")
+                .build();
+    }
+
+    public static Employee seedEmployee(int i) {
+        return Employee.builder()
+                .firstName(firstName(i))
+                .lastName(lastName(i))
+                .email("employee" + i + "@bench.dev")
+                .build();
+    }
+
+    public static String firstName(int i) {
+        return "First" + i;
+    }
+
+    public static String lastName(int i) {
+        return "Last" + i;
+    }
+}
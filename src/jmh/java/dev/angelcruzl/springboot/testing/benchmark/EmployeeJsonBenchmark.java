@@ -0,0 +1,105 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.config.EmployeeJsonHttpMessageConverter;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/v1/employees/{id} bodies as the controller writes them: Jackson's converter against the hand-written
+// one, encoding every time and serving kept bytes. No database; hot ids cycle through the encoded cache.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeeJsonBenchmark {
+
+    private static final int EMPLOYEES = 1024;
+
+    private final Employee[] employees = new Employee[EMPLOYEES];
+
+    private final Message message = new Message();
+
+    private MappingJackson2HttpMessageConverter jackson;
+
+    private EmployeeJsonHttpMessageConverter encoding;
+
+    private EmployeeJsonHttpMessageConverter cached;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+        encoding = new EmployeeJsonHttpMessageConverter(objectMapper.getFactory(), 0);
+        cached = new EmployeeJsonHttpMessageConverter(objectMapper.getFactory(), EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = EmployeeDatabaseState.seedEmployee(i);
+            employee.setId(i + 1L);
+            employee.setVersion(0L);
+            employees[i] = employee;
+        }
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        return write(jackson);
+    }
+
+    @Benchmark
+    public int handWritten() throws IOException {
+        return write(encoding);
+    }
+
+    @Benchmark
+    public int handWrittenCached() throws IOException {
+        return write(cached);
+    }
+
+    private int write(HttpMessageConverter<Object> converter) throws IOException {
+        Employee employee = employees[next++ & (EMPLOYEES - 1)];
+        message.reset();
+        converter.write(employee, MediaType.APPLICATION_JSON, message);
+        return message.body.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int write(EmployeeJsonHttpMessageConverter converter) throws IOException {
+        return write((HttpMessageConverter<Object>) (HttpMessageConverter<?>) converter);
+    }
+
+    // reused between invocations, so only the converter allocates
+    private static class Message implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers.clear();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.angelcruzl.springboot.testing.SpringbootTestingApplication;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Closed-loop HTTP load test comparing platform and virtual request threads against a database that answers
+// every statement after a fixed delay. key=value arguments: modes (platform,virtual), clients (400),
+// seconds (30), dbLatencyMs (20), poolSize (50), rows (1000). The database is H2 behind a sleeping wrapper, no
+// driver monitors are involved, so the numbers compare the request threads only and do not carry over to MySQL,
+// where Connector/J 8.x pins the carrier for the length of every query.
+public class EmployeeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            options.put(pair[0], pair[1]);
+        }
+
+        int clients = Integer.parseInt(options.getOrDefault("clients", "400"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        long dbLatencyMs = Long.parseLong(options.getOrDefault("dbLatencyMs", "20"));
+        int poolSize = Integer.parseInt(options.getOrDefault("poolSize", "50"));
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000"));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %8s %10s %9s %9s %9s %9s %7s",
+                "mode", "clients", "rps", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors"));
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            report.add(run(mode, clients, seconds, dbLatencyMs, poolSize, rows));
+        }
+        report.forEach(System.out::println);
+    }
+
+    private static String run(String mode, int clients, int seconds, long dbLatencyMs, int poolSize, int rows)
+            throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringbootTestingApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new SlowDataSourcePostProcessor()))
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--spring.cache.type=none",
+                        "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "--logging.level.root=warn");
+        try {
+            List<Employee> employees = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                employees.add(EmployeeDatabaseState.seedEmployee(i));
+            }
+            List<Long> ids = context.getBean(EmployeeService.class).saveEmployees(employees).stream()
+                    .map(EmployeeBatchResult::getId)
+                    .toList();
+            SlowDataSource.latencyMs = dbLatencyMs;
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/employees/";
+            return drive(mode, baseUrl, ids, clients, seconds);
+        } finally {
+            SlowDataSource.latencyMs = 0;
+            context.close();
+        }
+    }
+
+    private static String drive(String mode, String baseUrl, List<Long> ids, int clients, int seconds)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        int[] errors = new int[clients];
+        for (int c = 0; c < clients; c++) {
+            int clientIndex = c;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id)).GET().build();
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    long elapsed = System.nanoTime() - start;
+                    if (response.statusCode() != 200) {
+                        errors[clientIndex]++;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = elapsed;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        long[] all = new long[0];
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        executor.shutdown();
+        Arrays.sort(all);
+
+        return String.format("%-9s %8d %10.1f %9.2f %9.2f %9.2f %9.2f %7d",
+                mode, clients, all.length / (double) seconds,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6, Arrays.stream(errors).sum());
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    static class SlowDataSourcePostProcessor implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            // only the pool; the routing DataSource in front of it would add the delay a second time
+            return bean instanceof HikariDataSource dataSource ? new SlowDataSource(dataSource) : bean;
+        }
+    }
+
+    // Delays every statement execution to stand in for a slow remote MySQL
+    static class SlowDataSource extends DelegatingDataSource {
+        static volatile long latencyMs;
+
+        SlowDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        return result instanceof PreparedStatement statement ? slow(statement) : result;
+                    });
+        }
+
+        private static PreparedStatement slow(PreparedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(SlowDataSource.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute") && latencyMs > 0) {
+                            Thread.sleep(latencyMs);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Throughput with default pool and driver settings against the production profile, with more threads than
+// the default pool has connections, e.g.
+// mvn -Pjmh test-compile exec:exec -Djmh.args="EmployeePoolBenchmark -p tableSize=10000 -p url=jdbc:mysql://localhost:3306/bench"
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(32)
+public class EmployeePoolBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 100;
+
+    @Benchmark
+    public Employee saveEmployee(EmployeePoolProfileState state) {
+        return state.service.saveEmployee(state.newEmployee());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public List<EmployeeBatchResult> saveEmployeesBatch(EmployeePoolProfileState state) {
+        List<Employee> employees = new ArrayList<>(ROWS_PER_INVOCATION);
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            employees.add(state.newEmployee());
+        }
+        return state.service.saveEmployees(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeView> getAllEmployees(EmployeePoolProfileState state) {
+        return state.service.getAllEmployees();
+    }
+}
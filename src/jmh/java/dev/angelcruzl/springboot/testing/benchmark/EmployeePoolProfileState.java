@@ -0,0 +1,39 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// EmployeeDatabaseState with and without the production profile. The driver settings only take effect on
+// MySQL: pass -p url=jdbc:mysql://... -p username=... -p password=... pointing at a scratch schema, the
+// tables are dropped and recreated.
+@State(Scope.Benchmark)
+public class EmployeePoolProfileState extends EmployeeDatabaseState {
+
+    @Param({"default", "production"})
+    public String profile;
+
+    @Param({""})
+    public String url;
+
+    @Param({"root"})
+    public String username;
+
+    @Param({""})
+    public String password;
+
+    @Override
+    protected String[] benchmarkArguments() {
+        List<String> arguments = new ArrayList<>(List.of(super.benchmarkArguments()));
+        arguments.add("--spring.profiles.active=" + profile);
+        if (!url.isEmpty()) {
+            arguments.add("--spring.datasource.url=" + url);
+            arguments.add("--spring.datasource.username=" + username);
+            arguments.add("--spring.datasource.password=" + password);
+        }
+        return arguments.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.angelcruzl.springboot.testing.benchmark.EmployeeDatabaseState.firstName;
+import static dev.angelcruzl.springboot.testing.benchmark.EmployeeDatabaseState.lastName;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+    @Benchmark
+    public Employee findByJPQL(EmployeeDatabaseState state) {
+        int i = state.randomSeedIndex();
+        return state.repository.findByJPQL(firstName(i), lastName(i));
+    }
+
+    @Benchmark
+    public Employee findByJPQLNamedParams(EmployeeDatabaseState state) {
+        int i = state.randomSeedIndex();
+        return state.repository.findByJPQLNamedParams(firstName(i), lastName(i));
+    }
+
+    @Benchmark
+    public Employee findByNativeQuery(EmployeeDatabaseState state) {
+        int i = state.randomSeedIndex();
+        return state.repository.findByNativeQuery(firstName(i), lastName(i));
+    }
+
+    @Benchmark
+    public Employee findByNativeQueryNamedParams(EmployeeDatabaseState state) {
+        int i = state.randomSeedIndex();
+        return state.repository.findByNativeQueryNamedParams(firstName(i), lastName(i));
+    }
+}
@@ -0,0 +1,90 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+// GET /api/v1/employees in each representation over h2c. Setup prints the bytes on the wire; decode measures
+// the client's side alone, fetch the whole round trip.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeRepresentationBenchmark {
+
+    private static final String GZIP = "gzip";
+
+    @Param({"json", "cbor", "smile"})
+    public String representation;
+
+    @Param({"identity", GZIP})
+    public String encoding;
+
+    private HttpClient client;
+
+    private HttpRequest request;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp(EmployeeWebState state) throws Exception {
+        MediaType mediaType = switch (representation) {
+            case "cbor" -> MediaType.APPLICATION_CBOR;
+            case "smile" -> new MediaType("application", "x-jackson-smile");
+            default -> MediaType.APPLICATION_JSON;
+        };
+        Jackson2ObjectMapperBuilder builder = switch (representation) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        objectMapper = builder.build();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+        request = HttpRequest.newBuilder(state.uri("/api/v1/employees"))
+                .header(HttpHeaders.ACCEPT, mediaType.toString())
+                .header(HttpHeaders.ACCEPT_ENCODING, encoding)
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        body = response.body();
+        System.out.printf("%n%d employees as %s, %s over %s: %d bytes on the wire%n", decode(body).length,
+                response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse("?"),
+                response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse("identity"),
+                response.version(), body.length);
+    }
+
+    @Benchmark
+    public EmployeeView[] decode() throws IOException {
+        return decode(body);
+    }
+
+    @Benchmark
+    public EmployeeView[] fetch() throws Exception {
+        return decode(client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body());
+    }
+
+    private EmployeeView[] decode(byte[] bytes) throws IOException {
+        InputStream in = new ByteArrayInputStream(bytes);
+        try (InputStream decoded = GZIP.equals(encoding) ? new GZIPInputStream(in) : in) {
+            return objectMapper.readValue(decoded, EmployeeView[].class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.angelcruzl.springboot.testing.benchmark.EmployeeDatabaseState.lastName;
+
+// Search latency against the p99 budget of /api/v1/employees/search. main() runs the searches and exits with 1 when
+// a p99 is over budget; for production-sized tables e.g.
+// mvn -Pjmh test-compile exec:exec -Djmh.main=dev.angelcruzl.springboot.testing.benchmark.EmployeeSearchBenchmark -Djmh.args="-p tableSize=5000000"
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeSearchBenchmark {
+
+    public static final int LATENCY_BUDGET_P99_MS = 50;
+
+    private static final int PAGE_SIZE = 50;
+
+    // takes the usual JMH arguments; mode and time unit stay fixed so the p99 compares with the budget
+    public static void main(String[] args) throws Exception {
+        List<RunResult> results = new ArrayList<>(new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EmployeeSearchBenchmark.class.getSimpleName())
+                .mode(Mode.SampleTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .build()).run());
+
+        boolean withinBudget = true;
+        System.out.printf("%-45s %10s %9s %7s%n", "search", "tableSize", "p99 ms", "budget");
+        for (RunResult result : results) {
+            double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+            withinBudget &= p99 <= LATENCY_BUDGET_P99_MS;
+            String benchmark = result.getParams().getBenchmark();
+            System.out.printf("%-45s %10s %9.2f %7s%n", benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    result.getParams().getParam("tableSize"), p99, p99 <= LATENCY_BUDGET_P99_MS ? "ok" : "OVER");
+        }
+        if (!withinBudget) {
+            System.exit(1);
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeView> searchByLastNamePrefixSortedByLastName(EmployeeDatabaseState state) {
+        return state.service.searchEmployees(EmployeeSearchCriteria.builder()
+                .lastName(prefix(lastName(state.randomSeedIndex())))
+                .sort("lastName")
+                .limit(PAGE_SIZE)
+                .build());
+    }
+
+    @Benchmark
+    public List<EmployeeView> searchByEmailPrefix(EmployeeDatabaseState state) {
+        return state.service.searchEmployees(EmployeeSearchCriteria.builder()
+                .email(prefix("employee" + state.randomSeedIndex()))
+                .sort("email")
+                .limit(PAGE_SIZE)
+                .build());
+    }
+
+    @Benchmark
+    public List<EmployeeView> searchByLastNamePrefixSortedByIdDescending(EmployeeDatabaseState state) {
+        return state.service.searchEmployees(EmployeeSearchCriteria.builder()
+                .lastName(prefix(lastName(state.randomSeedIndex())))
+                .descending(true)
+                .limit(PAGE_SIZE)
+                .build());
+    }
+
+    // drop the last two characters so each search matches a range of rows rather than one
+    private static String prefix(String value) {
+        return value.substring(0, Math.max(1, value.length() - 2));
+    }
+}
@@ -0,0 +1,50 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1000;
+
+    @Benchmark
+    public Employee saveEmployee(EmployeeDatabaseState state) {
+        return state.service.saveEmployee(state.newEmployee());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public List<Employee> saveEmployeesOneByOne(EmployeeDatabaseState state) {
+        List<Employee> saved = new ArrayList<>(ROWS_PER_INVOCATION);
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            saved.add(state.service.saveEmployee(state.newEmployee()));
+        }
+        return saved;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public List<EmployeeBatchResult> saveEmployeesBatch(EmployeeDatabaseState state) {
+        List<Employee> employees = new ArrayList<>(ROWS_PER_INVOCATION);
+        for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+            employees.add(state.newEmployee());
+        }
+        return state.service.saveEmployees(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeView> getAllEmployees(EmployeeDatabaseState state) {
+        return state.service.getAllEmployees();
+    }
+}
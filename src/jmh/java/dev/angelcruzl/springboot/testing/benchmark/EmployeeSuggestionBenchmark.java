@@ -0,0 +1,47 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.service.EmployeeSuggestionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.angelcruzl.springboot.testing.benchmark.EmployeeDatabaseState.lastName;
+
+// Type-ahead lookups straight against the in-memory index; the target is well under a millisecond per call
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeSuggestionBenchmark {
+
+    private static final int SUGGESTIONS = 10;
+
+    private EmployeeSuggestionService suggestionService;
+
+    @Setup(Level.Trial)
+    public void setUp(EmployeeDatabaseState state) {
+        suggestionService = state.context().getBean(EmployeeSuggestionService.class);
+    }
+
+    // one keystroke in, every seeded last name shares the prefix
+    @Benchmark
+    public List<EmployeeView> suggestShortPrefix() {
+        return suggestionService.suggest("la", SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<EmployeeView> suggestLastName(EmployeeDatabaseState state) {
+        return suggestionService.suggest(lastName(state.randomSeedIndex()), SUGGESTIONS);
+    }
+
+    // the second word rejects nearly every candidate of the first, bounded by the scan limit
+    @Benchmark
+    public List<EmployeeView> suggestTwoWords(EmployeeDatabaseState state) {
+        int i = state.randomSeedIndex();
+        return suggestionService.suggest("first last" + i, SUGGESTIONS);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.angelcruzl.springboot.testing.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+// EmployeeDatabaseState behind the embedded server, on a random port
+@State(Scope.Benchmark)
+public class EmployeeWebState extends EmployeeDatabaseState {
+
+    @Override
+    protected WebApplicationType webApplicationType() {
+        return WebApplicationType.SERVLET;
+    }
+
+    @Override
+    protected String[] benchmarkArguments() {
+        List<String> arguments = new ArrayList<>(List.of(super.benchmarkArguments()));
+        arguments.add("--server.port=0");
+        return arguments.toArray(String[]::new);
+    }
+
+    public URI uri(String path) {
+        return URI.create("http://localhost:" + context().getEnvironment().getProperty("local.server.port") + path);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Grows the pool's maximum by a step whenever threads wait on a full pool, up to ceiling, and gives a step
+// back after shrinkAfterChecks quiet checks, down to the size it started with. HikariCP retires the surplus
+// idle connections itself once they pass idle-timeout, which needs minimum-idle below the maximum.
+public class AdaptivePoolSizer implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+
+    private final int floor;
+
+    private final int ceiling;
+
+    private final int step;
+
+    private final int shrinkAfterChecks;
+
+    private int quietChecks;
+
+    private ScheduledExecutorService scheduler;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, int ceiling, int step, int shrinkAfterChecks) {
+        this.dataSource = dataSource;
+        this.floor = dataSource.getMaximumPoolSize();
+        this.ceiling = Math.max(floor, ceiling);
+        this.step = step;
+        this.shrinkAfterChecks = shrinkAfterChecks;
+    }
+
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "adaptive-pool-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::resize, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void resize() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // not started until the first connection is borrowed
+            return;
+        }
+        int maximum = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        if (pool.getThreadsAwaitingConnection() > 0) {
+            quietChecks = 0;
+            if (pool.getTotalConnections() >= maximum && maximum < ceiling) {
+                dataSource.getHikariConfigMXBean().setMaximumPoolSize(Math.min(ceiling, maximum + step));
+            }
+        } else if (pool.getActiveConnections() <= maximum / 2 && maximum > floor) {
+            if (++quietChecks >= shrinkAfterChecks) {
+                quietChecks = 0;
+                dataSource.getHikariConfigMXBean().setMaximumPoolSize(Math.max(floor, maximum - step));
+            }
+        } else {
+            quietChecks = 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String EMPLOYEES_BY_ID = "employees";
+
+    public static final String EMPLOYEES_BY_EMAIL = "employeesByEmail";
+}
@@ -0,0 +1,47 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import dev.angelcruzl.springboot.testing.dto.ConnectionPoolStatus;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/pools: connection counts of the primary and every replica pool, keyed by pool name
+@Endpoint(id = "pools")
+public class ConnectionPoolEndpoint {
+
+    private final HikariDataSource primary;
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ConnectionPoolEndpoint(HikariDataSource primary, ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = primary;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @ReadOperation
+    public Map<String, ConnectionPoolStatus> pools() {
+        Map<String, ConnectionPoolStatus> pools = new LinkedHashMap<>();
+        pools.put(primary.getPoolName(), status(primary, true));
+        replicaLagMonitor.replicas().forEach((key, replica) -> {
+            if (replica instanceof HikariDataSource pool) {
+                pools.put(key, status(pool, replicaLagMonitor.isServing(key)));
+            }
+        });
+        return pools;
+    }
+
+    private static ConnectionPoolStatus status(HikariDataSource dataSource, boolean serving) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int maximumPoolSize = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        if (pool == null) {
+            return new ConnectionPoolStatus(0, 0, 0, 0, dataSource.getMinimumIdle(), maximumPoolSize, serving);
+        }
+        return new ConnectionPoolStatus(pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getTotalConnections(), pool.getThreadsAwaitingConnection(), dataSource.getMinimumIdle(),
+                maximumPoolSize, serving);
+    }
+}
@@ -0,0 +1,25 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Adaptive sizing of the primary pool between spring.datasource.hikari.maximum-pool-size and maximumPoolSize
+@Getter
+@Setter
+@ConfigurationProperties("employee.datasource.pool")
+public class ConnectionPoolProperties {
+    private boolean adaptive;
+
+    // the most connections the primary pool grows to while requests wait for one
+    private int maximumPoolSize = 40;
+
+    private int step = 2;
+
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    // consecutive checks with no waiters and at most half the pool in use before it shrinks by a step
+    private int shrinkAfterChecks = 6;
+}
@@ -0,0 +1,139 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+// The v2 stack adds an R2DBC ConnectionFactory, which makes Spring Boot back off its JDBC DataSource and
+// adds a second transaction manager, so the JDBC side of the v1 stack is declared here explicitly.
+// The DataSource JPA uses routes read-only transactions to the employee.datasource.replicas.
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class,
+        ConnectionPoolProperties.class})
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public AdaptivePoolSizer adaptivePoolSizer(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               ConnectionPoolProperties properties) {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(hikari(primaryDataSource), properties.getMaximumPoolSize(),
+                properties.getStep(), properties.getShrinkAfterChecks());
+        if (properties.isAdaptive()) {
+            sizer.start(properties.getCheckInterval());
+        }
+        return sizer;
+    }
+
+    @Bean
+    public ConnectionPoolEndpoint connectionPoolEndpoint(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                         ReplicaLagMonitor replicaLagMonitor) {
+        return new ConnectionPoolEndpoint(hikari(primaryDataSource), replicaLagMonitor);
+    }
+
+    @Bean
+    public ReplicaLagProbe replicaLagProbe() {
+        return ReplicaLagProbe.mysql();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSourceProperties properties, ReplicaLagProbe replicaLagProbe,
+                                               @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            replicas.put("replica-" + i, replicaDataSource("replica-" + i, configured.get(i),
+                    hikari(primaryDataSource).getDataSourceProperties(), meterRegistry));
+        }
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, replicaLagProbe, properties.getMaxLag());
+        if (!replicas.isEmpty()) {
+            monitor.start(properties.getLagCheckInterval());
+        }
+        return monitor;
+    }
+
+    // The pool behind the primary DataSource bean, which a post-processor may have wrapped (the load test delays
+    // its statements that way)
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("primaryDataSource is not backed by a Hikari pool", e);
+        }
+    }
+
+    // Replica pools are not beans, which keeps a single DataSource candidate for JPA; they get the
+    // hikaricp.* meters Boot would otherwise bind, tagged with their pool name. They share the primary's
+    // driver tuning from spring.datasource.hikari.data-source-properties.
+    private HikariDataSource replicaDataSource(String name, ReplicaDataSourceProperties.Replica replica,
+                                               Properties driverProperties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName(name);
+        dataSource.setDataSourceProperties(driverProperties);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource,
+                replicaLagMonitor.replicas(), replicaLagMonitor);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getReadYourWritesWindow(),
+                        Set.of("/api/v1/employees/lookup")));
+        // only the JDBC stack reads from replicas
+        registration.addUrlPatterns("/api/v1/*");
+        registration.setEnabled(!properties.getReplicas().isEmpty());
+        return registration;
+    }
+
+    // @Transactional without a qualifier keeps meaning JPA next to Boot's R2dbcTransactionManager
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,132 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes Employee responses with a hand-written generator instead of Jackson's reflective bean serializer, the
+// same bytes the default ObjectMapper produces. Id and version identify an employee's content, since every write
+// bumps the version, so encoded employees can be kept and hot ones served as ready-made bytes.
+public class EmployeeJsonHttpMessageConverter extends AbstractHttpMessageConverter<Employee> {
+
+    private static final SerializedString ID = new SerializedString("id");
+
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+
+    private static final SerializedString EMAIL = new SerializedString("email");
+
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private final JsonFactory jsonFactory;
+
+    // null when encoded employees are not kept
+    private final Cache<EncodedKey, byte[]> encoded;
+
+    public EmployeeJsonHttpMessageConverter(JsonFactory jsonFactory, long cacheSize) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = jsonFactory;
+        // maintenance on the calling thread: handing it to the common pool cost more than a hit saves
+        this.encoded = cacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheSize).executor(Runnable::run).recordStats().build()
+                : null;
+    }
+
+    Cache<EncodedKey, byte[]> getEncoded() {
+        return encoded;
+    }
+
+    // Hibernate proxies are subclasses, and are read through their getters like any other employee
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Employee.class.isAssignableFrom(clazz);
+    }
+
+    // request bodies are left to Jackson
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Employee readInternal(Class<? extends Employee> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employee requests are read by Jackson", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Employee employee, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        if (encoded == null || employee.getId() == null || employee.getVersion() == null) {
+            // not yet persisted, or nothing to keep: straight into the response buffer. Closing the generator
+            // returns its buffers to Jackson's recycler; the response itself stays open.
+            try (JsonGenerator generator = jsonFactory.createGenerator(StreamUtils.nonClosing(body), JsonEncoding.UTF8)) {
+                write(generator, employee);
+            }
+            return;
+        }
+
+        EncodedKey key = new EncodedKey(employee.getId(), employee.getVersion());
+        byte[] bytes = encoded.getIfPresent(key);
+        if (bytes == null) {
+            bytes = encode(employee);
+            encoded.put(key, bytes);
+        }
+        body.write(bytes);
+    }
+
+    public byte[] encode(Employee employee) throws IOException {
+        try (ByteArrayBuilder buffer = new ByteArrayBuilder();
+             JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            write(generator, employee);
+            generator.flush();
+            return buffer.toByteArray();
+        }
+    }
+
+    // field order and nulls as Jackson writes the entity
+    private static void write(JsonGenerator generator, Employee employee) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, ID, employee.getId());
+        writeString(generator, FIRST_NAME, employee.getFirstName());
+        writeString(generator, LAST_NAME, employee.getLastName());
+        writeString(generator, EMAIL, employee.getEmail());
+        writeNumber(generator, VERSION, employee.getVersion());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    record EncodedKey(long id, long version) {
+    }
+}
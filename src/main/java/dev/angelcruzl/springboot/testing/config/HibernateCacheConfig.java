@@ -0,0 +1,53 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+// Hibernate second-level and query cache on Ehcache through JCache. Regions, with their heap and off-heap
+// tiers, are configured in hibernate-ehcache.xml; Boot binds the Hibernate statistics as hibernate.* meters.
+@Configuration
+public class HibernateCacheConfig {
+    public static final String EMPLOYEE_REGION = "employee";
+
+    public static final String EMPLOYEE_LOOKUPS_REGION = "employee-lookups";
+
+    // Query space of the single-row native writes. No entity maps to it, so Hibernate invalidates neither the
+    // employee region nor the query cache for them; the written rows are evicted one by one instead.
+    public static final String EMPLOYEE_ROW_SPACE = "employee-row";
+
+    private static final String CONFIG_LOCATION = "/hibernate-ehcache.xml";
+
+    // Owned by this context rather than looked up by URI, which would hand every application context in the
+    // JVM (test contexts included) the same regions
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        XmlConfiguration configuration = new XmlConfiguration(getClass().getResource(CONFIG_LOCATION));
+        return provider.getCacheManager(URI.create("urn:hibernate-l2:" + UUID.randomUUID()), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            // on unless spring.jpa.properties switches them off, as the benchmarks do for an uncached baseline
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // every region must be declared in the XML, an undeclared one would be unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
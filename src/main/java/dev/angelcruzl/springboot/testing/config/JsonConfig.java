@@ -0,0 +1,42 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JsonConfig {
+
+    // Spring Boot puts converter beans ahead of its defaults, so this one answers for Employee before Jackson
+    @Bean
+    public EmployeeJsonHttpMessageConverter employeeJsonHttpMessageConverter(
+            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${employee.json.cache-size:0}") long cacheSize) {
+        EmployeeJsonHttpMessageConverter converter =
+                new EmployeeJsonHttpMessageConverter(objectMapper.getFactory(), cacheSize);
+        if (converter.getEncoded() != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, converter.getEncoded(), "employeeJson");
+        }
+        return converter;
+    }
+
+    // Binary alternatives, picked with Accept: application/cbor or application/x-jackson-smile. They replace the
+    // converters Spring MVC adds for them, which would skip Boot's spring.jackson settings.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,78 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+// Read-your-writes for replica routing. A write request gets a cookie holding the time until which the
+// client's reads go to the primary, long enough for replicas within maxLag to have the change; the request
+// itself is pinned too. Work handed to other threads (streamed responses) is not pinned. POSTs to readPaths are
+// queries with a body and count as reads.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    private final Set<String> readPaths;
+
+    public ReadYourWritesFilter(Duration window, Set<String> readPaths) {
+        this.window = window;
+        this.readPaths = readPaths;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod())
+                && !readPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+        if (write) {
+            // set before the chain runs, once the body is written the headers may already be committed
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        if (!write && !pinnedByCookie(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.setPrimaryOnly(true);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.setPrimaryOnly(false);
+        }
+    }
+
+    private boolean pinnedByCookie(HttpServletRequest request, long now) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    // bounded by the window so a hand-made cookie cannot pin a client indefinitely
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
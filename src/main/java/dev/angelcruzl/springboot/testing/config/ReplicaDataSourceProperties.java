@@ -0,0 +1,37 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// employee.datasource.replicas[n].url/username/password; without replicas every query goes to spring.datasource
+@Getter
+@Setter
+@ConfigurationProperties("employee.datasource")
+public class ReplicaDataSourceProperties {
+    private List<Replica> replicas = new ArrayList<>();
+
+    // a replica further behind than this stops serving reads until it catches up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    // how long a client keeps reading from the primary after one of its writes
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
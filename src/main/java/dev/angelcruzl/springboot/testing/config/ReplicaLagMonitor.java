@@ -0,0 +1,93 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Probes every replica on a fixed delay and hands out the ones within maxLag round-robin. Until the first
+// probe, and whenever none qualifies, there is no replica and reads stay on the primary. Owns the replica
+// pools and closes them with itself.
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final Map<String, DataSource> replicas;
+
+    private final ReplicaLagProbe probe;
+
+    private final Duration maxLag;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> current = List.of();
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, ReplicaLagProbe probe, Duration maxLag) {
+        this.replicas = replicas;
+        this.probe = probe;
+        this.maxLag = maxLag;
+    }
+
+    public void start(Duration interval) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void refresh() {
+        List<String> within = new ArrayList<>(replicas.size());
+        replicas.forEach((key, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                Duration lag = probe.lag(connection);
+                if (lag != null && lag.compareTo(maxLag) <= 0) {
+                    within.add(key);
+                }
+            } catch (Exception e) {
+                // an unreachable replica is treated like one that lags
+            }
+        });
+        current = List.copyOf(within);
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    public boolean isServing(String key) {
+        return current.contains(key);
+    }
+
+    // null when reads have to go to the primary
+    public String nextReplica() {
+        List<String> candidates = current;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    // shutting down anyway
+                }
+            }
+        }
+    }
+}
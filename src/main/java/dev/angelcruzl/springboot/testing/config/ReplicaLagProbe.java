@@ -0,0 +1,32 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+@FunctionalInterface
+public interface ReplicaLagProbe {
+    // null when the lag is unknown, e.g. replication stopped
+    Duration lag(Connection connection) throws SQLException;
+
+    // SHOW REPLICA STATUS on MySQL. Other databases, such as the H2 stand-ins used locally, have no
+    // replication to measure and count as current.
+    static ReplicaLagProbe mysql() {
+        return connection -> {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return Duration.ZERO;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!status.next()) {
+                    // not a replica at all, so it cannot be behind
+                    return Duration.ZERO;
+                }
+                long seconds = status.getLong("Seconds_Behind_Source");
+                return status.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Read-only transactions go to a replica, everything else to the primary. Must sit behind a
+// LazyConnectionDataSourceProxy: the transaction manager asks for a connection before the read-only
+// flag is bound, the proxy defers the lookup to the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> primaryOnly = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    // pins the current thread to the primary, e.g. for the rest of a request that wrote
+    public static void setPrimaryOnly(boolean pinned) {
+        if (pinned) {
+            primaryOnly.set(Boolean.TRUE);
+        } else {
+            primaryOnly.remove();
+        }
+    }
+
+    public static boolean isPrimaryOnly() {
+        return primaryOnly.get() != null;
+    }
+
+    // Runs loader pinned to the primary and restores the caller's pin afterwards. Only takes effect while the
+    // transaction has not yet issued a statement, the lazy proxy then still has to pick a target.
+    public static <T> T onPrimary(Supplier<T> loader) {
+        if (isPrimaryOnly()) {
+            return loader.get();
+        }
+        primaryOnly.set(Boolean.TRUE);
+        try {
+            return loader.get();
+        } finally {
+            primaryOnly.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isPrimaryOnly()) {
+            return PRIMARY;
+        }
+        String replica = lagMonitor.nextReplica();
+        return replica == null ? PRIMARY : replica;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the statements Hibernate prepares on the current thread between start() and stop().
+// A JDBC batch is prepared once, so it counts as one statement however many rows it carries.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
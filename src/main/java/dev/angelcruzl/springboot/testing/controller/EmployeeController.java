@@ -1,53 +1,322 @@
 package dev.angelcruzl.springboot.testing.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChangePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.dto.EmployeeWriteStatus;
+import dev.angelcruzl.springboot.testing.exception.PreconditionFailedException;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.exception.TooManyRequestsException;
 import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeFeedService;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeSubscriber;
 import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import dev.angelcruzl.springboot.testing.service.EmployeeSuggestionService;
+import dev.angelcruzl.springboot.testing.service.EmployeeWriteBehindService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/v1/employees")
 public class EmployeeController {
 
+    // If-Match uses strong comparison, so weak W/"n" tags never match
+    private static final Pattern VERSION_ETAG = Pattern.compile("\"(\\d+)\"");
+
+    // RFC 7240
+    private static final String PREFER = "Prefer";
+
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    // a change stream ends after this long; EventSource reconnects on its own with Last-Event-ID
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(10);
+
     @Autowired
     private EmployeeService service;
 
+    @Autowired
+    private EmployeeSuggestionService suggestionService;
+
+    @Autowired
+    private EmployeeWriteBehindService writeBehindService;
+
+    @Autowired
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Prefer: respond-async queues the employee for the write-behind writer when it is enabled and answers 202
+    // with a tracking URL, or 429 while the queue is full
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public Employee createEmployee(@RequestBody Employee employee) {
-        return service.saveEmployee(employee);
+    public ResponseEntity<Object> createEmployee(@RequestHeader(value = PREFER, required = false) String prefer,
+                                                 @RequestBody Employee employee) {
+        if (prefer == null || !prefer.contains(RESPOND_ASYNC) || !writeBehindService.isRunning()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(service.saveEmployee(employee));
+        }
+
+        EmployeeWriteStatus status;
+        try {
+            status = writeBehindService.enqueue(employee);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/pending/{trackingId}")
+                .buildAndExpand(status.getTrackingId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(status);
+    }
+
+    @GetMapping("/pending/{trackingId}")
+    public ResponseEntity<EmployeeWriteStatus> getPendingEmployee(@PathVariable("trackingId") String trackingId) {
+        return writeBehindService.getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/batch")
+    public List<EmployeeBatchResult> createEmployees(@RequestBody List<Employee> employees) {
+        return service.saveEmployees(employees);
     }
 
     @GetMapping
-    public List<Employee> getAllEmployees() {
+    public List<EmployeeView> getAllEmployees() {
         return service.getAllEmployees();
     }
 
+    // e.g. ?fields=id,email selects only those columns
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllEmployeeFields(@RequestParam("fields") List<String> fields) {
+        return service.getAllEmployeeFields(fields);
+    }
+
+    @GetMapping(params = "limit")
+    public EmployeePage<EmployeeView> getEmployeesPage(@RequestParam(value = "after", required = false) Long after,
+                                                       @RequestParam("limit") int limit) {
+        return service.getEmployeesPage(after, limit);
+    }
+
+    // prefix search, e.g. ?lastName=Cr&sort=lastName,desc&limit=20
+    @GetMapping("/search")
+    public List<EmployeeView> searchEmployees(@RequestParam(value = "firstName", required = false) String firstName,
+                                              @RequestParam(value = "lastName", required = false) String lastName,
+                                              @RequestParam(value = "email", required = false) String email,
+                                              @RequestParam(value = "sort", defaultValue = "id") String sort,
+                                              @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        String[] sortParts = sort.split(",", 2);
+        return service.searchEmployees(EmployeeSearchCriteria.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .sort(sortParts[0].trim())
+                .descending(sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim()))
+                .limit(limit)
+                .build());
+    }
+
+    // type-ahead, matches the start of any word of the names or email, e.g. ?q=ang cr
+    @GetMapping("/suggest")
+    public List<EmployeeView> suggestEmployees(@RequestParam("q") String query,
+                                               @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return suggestionService.suggest(query, limit);
+    }
+
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(EmployeeView.class).writeValuesAsArray(outputStream)) {
+                service.forEachEmployee(employee -> {
+                    try {
+                        writer.write(employee);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // Incremental sync instead of polling the full listing: without since this returns no changes and the current
+    // cursor as next, to take before loading the employees; afterwards ?since=<next>&wait=<seconds> waits for the
+    // next changes. 410 when the changes after since were already purged, the consumer reloads and starts over.
+    // The request thread is released while the poll waits; the feed completes the result.
+    @GetMapping("/changes")
+    public DeferredResult<EmployeeChangePage> getChanges(@RequestParam(value = "since", required = false) Long since,
+                                                         @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                                         @RequestParam(value = "wait", defaultValue = "0") long waitSeconds) {
+        // the feed ends the wait itself, this timeout only outlasts it
+        DeferredResult<EmployeeChangePage> result =
+                new DeferredResult<>(EmployeeChangeFeedService.MAX_WAIT.multipliedBy(2).toMillis());
+        if (since == null) {
+            result.setResult(new EmployeeChangePage(List.of(), changeFeedService.getLatestSeq()));
+            return result;
+        }
+        changeFeedService.awaitChanges(since, limit, Duration.ofSeconds(Math.max(waitSeconds, 0)))
+                .whenComplete((page, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(error);
+                    } else {
+                        result.setResult(page);
+                    }
+                });
+        return result;
+    }
+
+    // The same feed as server-sent events, each with its seq as id. Resumes after since or Last-Event-ID, else
+    // starts at the current cursor. No thread waits per stream: the feed's sender threads write to them.
+    @GetMapping(value = "/changes", params = "stream=true")
+    public ResponseEntity<SseEmitter> streamChanges(@RequestParam(value = "since", required = false) Long since,
+                                                    @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        long cursor = since != null ? since : lastEventId != null ? lastEventId : changeFeedService.getLatestSeq();
+        // checked before the response starts, so a purged cursor still answers 410
+        changeFeedService.getChanges(cursor, 1);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        EmployeeChangeSubscriber subscriber = new EmployeeChangeSubscriber() {
+            @Override
+            public void onChanges(List<EmployeeChange> changes) throws IOException {
+                if (changes.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                    return;
+                }
+                // one write and flush for the whole batch
+                Set<ResponseBodyEmitter.DataWithMediaType> events = new LinkedHashSet<>();
+                for (EmployeeChange change : changes) {
+                    events.addAll(SseEmitter.event()
+                            .id(String.valueOf(change.getSeq()))
+                            .name(change.getType().name())
+                            .data(change, MediaType.APPLICATION_JSON)
+                            .build());
+                }
+                emitter.send(events);
+            }
+
+            @Override
+            public void onGone() {
+                // purged while streaming; the reconnect answers 410
+                emitter.complete();
+            }
+        };
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> changeFeedService.unsubscribe(subscriber));
+        emitter.onError(error -> changeFeedService.unsubscribe(subscriber));
+        changeFeedService.subscribe(cursor, subscriber);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(emitter);
+    }
+
+    // The version is the ETag. Spring answers a matching If-None-Match with 304 before the body is serialized,
+    // and a cached employee needs no query either.
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId) {
         return service.getEmployeeById(employeeId)
+                .map(employee -> withVersion(ResponseEntity.ok(), employee.getVersion()).body(employee))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Resolves up to MAX_LOOKUP_SIZE ids and emails in a few queries; a read, so it does not pin the client to the primary
+    @PostMapping("/lookup")
+    public EmployeeLookupResult lookupEmployees(@RequestBody EmployeeLookupRequest request) {
+        return service.lookupEmployees(request);
+    }
+
+    @GetMapping(params = "email")
+    public ResponseEntity<Employee> getEmployeeByEmail(@RequestParam("email") String email) {
+        return service.getEmployeeByEmail(email)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // With If-Match the update only applies to that version, a concurrent change answers 412
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                    @RequestBody Employee updatedEmployee) {
-        return service.getEmployeeById(employeeId)
-                .map(employee -> {
-                    updatedEmployee.setId(employee.getId());
-                    return ResponseEntity.ok(service.updateEmployee(updatedEmployee));
-                })
-                .orElseGet(() -> ResponseEntity.notFound().build());
+        updatedEmployee.setId(employeeId);
+        updatedEmployee.setVersion(ifMatch == null || "*".equals(ifMatch.trim()) ? null : parseVersion(ifMatch));
+        try {
+            Employee employee = service.updateEmployee(updatedEmployee);
+            return withVersion(ResponseEntity.ok(), employee.getVersion()).body(employee);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId) {
-        service.deleteEmployee(employeeId);
+        try {
+            service.deleteEmployee(employeeId);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok("Employee with id " + employeeId + " deleted successfully");
     }
+
+    @PatchMapping("/bulk")
+    public EmployeeBulkResult updateEmployees(@RequestBody EmployeeBulkRequest request) {
+        return service.updateEmployees(request);
+    }
+
+    @DeleteMapping("/bulk")
+    public EmployeeBulkResult deleteEmployees(@RequestBody EmployeeBulkRequest request) {
+        return service.deleteEmployees(request);
+    }
+
+    private static ResponseEntity.BodyBuilder withVersion(ResponseEntity.BodyBuilder builder, Long version) {
+        return version == null ? builder : builder.eTag(String.valueOf(version));
+    }
+
+    private static Long parseVersion(String ifMatch) {
+        Matcher matcher = VERSION_ETAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) {
+            throw new PreconditionFailedException("If-Match must be a single ETag returned by this API");
+        }
+        return Long.valueOf(matcher.group(1));
+    }
 }
@@ -0,0 +1,110 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.exception.BadRequestException;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// Streams the whole table row by row off a forward-only cursor. The response is written on the request thread
+// rather than through StreamingResponseBody so a long export is not cut off by the async request timeout.
+@RestController
+@RequestMapping("/api/v1/employees/export")
+public class EmployeeExportController {
+
+    public static final String GZIP_VALUE = "application/gzip";
+
+    // same column names the import endpoint reads, so an export can be imported elsewhere as is
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("firstName")
+            .addColumn("lastName")
+            .addColumn("email")
+            .setUseHeader(true)
+            .build();
+
+    @Autowired
+    private EmployeeService service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    @GetMapping
+    public void exportEmployees(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        String filename = "employees." + (csv ? "csv" : "ndjson") + (gzip ? ".gz" : "");
+        if (gzip) {
+            response.setContentType(GZIP_VALUE);
+        } else {
+            response.setContentType(csv ? EmployeeImportController.TEXT_CSV_VALUE : MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream();
+        if (csv) {
+            writeCsv(out);
+        } else {
+            writeNdjson(out);
+        }
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        try (SequenceWriter writer = csvMapper.writerFor(EmployeeView.class).with(CSV_SCHEMA)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            service.forEachEmployee(employee -> {
+                try {
+                    writer.write(employee);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // one document per line instead of the default space between root values
+            generator.setRootValueSeparator(null);
+            service.forEachEmployee(employee -> {
+                try {
+                    generator.writeObject(employee);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+import dev.angelcruzl.springboot.testing.service.EmployeeImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1/employees/import")
+public class EmployeeImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private EmployeeImportService service;
+
+    // CSV needs a header row naming the firstName, lastName and email columns; NDJSON is one employee per line
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<EmployeeImportStatus> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                                InputStream body) {
+        EmployeeImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? EmployeeImportService.Format.NDJSON
+                : EmployeeImportService.Format.CSV;
+        EmployeeImportStatus status = service.startImport(body, format);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(status.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<EmployeeImportStatus> getImportStatus(@PathVariable("jobId") String jobId) {
+        return service.getImportStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{jobId}/rejects", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<Resource> getRejects(@PathVariable("jobId") String jobId) {
+        Optional<EmployeeImportStatus> status = service.getImportStatus(jobId);
+        if (status.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (status.get().getState() == EmployeeImportStatus.State.RUNNING) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        return service.getRejectsFile(jobId)
+                .<ResponseEntity<Resource>>map(file -> ResponseEntity.ok(new FileSystemResource(file)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,69 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import dev.angelcruzl.springboot.testing.service.ReactiveEmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v2/employees")
+public class ReactiveEmployeeController {
+
+    @Autowired
+    private ReactiveEmployeeService service;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ReactiveEmployee> createEmployee(@RequestBody ReactiveEmployee employee) {
+        return service.saveEmployee(employee);
+    }
+
+    // NDJSON is written row by row as the client consumes it; plain JSON collects the list first
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ReactiveEmployee> getAllEmployees() {
+        return service.getAllEmployees();
+    }
+
+    @GetMapping(params = "limit")
+    public Mono<EmployeePage<ReactiveEmployee>> getEmployeesPage(@RequestParam(value = "after", required = false) Long after,
+                                                                 @RequestParam("limit") int limit) {
+        return service.getEmployeesPage(after, limit);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ReactiveEmployee>> getEmployeeById(@PathVariable("id") long employeeId) {
+        return service.getEmployeeById(employeeId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(params = "email")
+    public Mono<ResponseEntity<ReactiveEmployee>> getEmployeeByEmail(@RequestParam("email") String email) {
+        return service.getEmployeeByEmail(email)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ReactiveEmployee>> updateEmployee(@PathVariable("id") long employeeId,
+                                                                 @RequestBody ReactiveEmployee updatedEmployee) {
+        updatedEmployee.setId(employeeId);
+        return service.updateEmployee(updatedEmployee)
+                .map(ResponseEntity::ok)
+                .onErrorResume(ResourceNotFoundException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployee(@PathVariable("id") long employeeId) {
+        return service.deleteEmployee(employeeId)
+                .thenReturn(ResponseEntity.ok("Employee with id " + employeeId + " deleted successfully"))
+                .onErrorResume(ResourceNotFoundException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+}
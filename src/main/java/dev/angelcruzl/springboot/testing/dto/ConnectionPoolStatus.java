@@ -0,0 +1,26 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConnectionPoolStatus {
+    private int active;
+
+    private int idle;
+
+    private int total;
+
+    // threads blocked in getConnection
+    private int waiting;
+
+    private int minimumIdle;
+
+    private int maximumPoolSize;
+
+    // false for a replica that lags or is unreachable; the primary always serves
+    private boolean serving;
+}
@@ -0,0 +1,37 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchResult {
+    // position of the row in the request body
+    private int index;
+
+    private Status status;
+
+    private Long id;
+
+    private String message;
+
+    public static EmployeeBatchResult created(int index, Long id) {
+        return new EmployeeBatchResult(index, Status.CREATED, id, null);
+    }
+
+    public static EmployeeBatchResult duplicate(int index, String email) {
+        return new EmployeeBatchResult(index, Status.DUPLICATE, null, "Employee with email " + email + " already exists");
+    }
+
+    public static EmployeeBatchResult invalid(int index, String message) {
+        return new EmployeeBatchResult(index, Status.INVALID, null, message);
+    }
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -0,0 +1,24 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Selects employees by ids or by filter, never both
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeBulkRequest {
+    private List<Long> ids;
+
+    private EmployeeFilter filter;
+
+    // new values for a bulk update, null leaves the column unchanged; emails are unique and cannot be bulk updated
+    private String firstName;
+
+    private String lastName;
+}
@@ -0,0 +1,12 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBulkResult {
+    private long affected;
+}
@@ -0,0 +1,35 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChange {
+
+    public enum Type {
+        // created or fully replaced, with every value
+        SAVED,
+        // bulk name update, a null name was left unchanged
+        RENAMED,
+        DELETED
+    }
+
+    private Long seq;
+
+    private Type type;
+
+    private Long employeeId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private Instant changedAt;
+}
@@ -0,0 +1,17 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChangePage {
+    private List<EmployeeChange> changes;
+
+    // seq to pass as "since" for the next call, the same since when there were no changes
+    private long next;
+}
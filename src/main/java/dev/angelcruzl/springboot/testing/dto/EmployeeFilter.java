@@ -0,0 +1,20 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Criteria are combined with AND; a null criterion matches every employee
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeFilter {
+    // matches emails ending in "@" + emailDomain
+    private String emailDomain;
+
+    private String lastName;
+
+    public boolean isEmpty() {
+        return emailDomain == null && lastName == null;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeImportStatus {
+    private String id;
+
+    private State state;
+
+    // data rows parsed so far, a CSV header is not counted
+    private long rowsRead;
+
+    private long imported;
+
+    private long rejected;
+
+    // why the import stopped, only set when FAILED
+    private String error;
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,19 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Employees to resolve by id, by email, or both
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeLookupRequest {
+    private List<Long> ids;
+
+    private List<String> emails;
+}
@@ -0,0 +1,22 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import dev.angelcruzl.springboot.testing.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeLookupResult {
+    // one entry per requested id and email, in request order, null where nothing matched
+    private List<Employee> employeesById;
+
+    private List<Employee> employeesByEmail;
+
+    private List<Long> missingIds;
+
+    private List<String> missingEmails;
+}
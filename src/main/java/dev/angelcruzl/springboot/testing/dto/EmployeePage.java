@@ -0,0 +1,17 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePage<T> {
+    private List<T> content;
+
+    // id to pass as "after" for the next page, null when this is the last page
+    private Long nextCursor;
+}
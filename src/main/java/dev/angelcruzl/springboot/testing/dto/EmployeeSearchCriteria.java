@@ -0,0 +1,27 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Prefixes are combined with AND; a null prefix matches every employee
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeSearchCriteria {
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    @Builder.Default
+    private String sort = "id";
+
+    private boolean descending;
+
+    @Builder.Default
+    private int limit = 50;
+}
@@ -0,0 +1,18 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Read-only row selected with a constructor expression; never enters the persistence context.
+// Keep a single constructor so Spring Data can derive the projection from its parameter names.
+@Getter
+@AllArgsConstructor
+public class EmployeeView {
+    private Long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+}
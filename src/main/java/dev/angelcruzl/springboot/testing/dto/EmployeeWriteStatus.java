@@ -0,0 +1,42 @@
+package dev.angelcruzl.springboot.testing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeWriteStatus {
+    private String trackingId;
+
+    private State state;
+
+    // only set once CREATED
+    private Long employeeId;
+
+    private String message;
+
+    public static EmployeeWriteStatus pending(String trackingId) {
+        return new EmployeeWriteStatus(trackingId, State.PENDING, null, null);
+    }
+
+    public static EmployeeWriteStatus created(String trackingId, Long employeeId) {
+        return new EmployeeWriteStatus(trackingId, State.CREATED, employeeId, null);
+    }
+
+    public static EmployeeWriteStatus duplicate(String trackingId, String message) {
+        return new EmployeeWriteStatus(trackingId, State.DUPLICATE, null, message);
+    }
+
+    public static EmployeeWriteStatus failed(String trackingId, String message) {
+        return new EmployeeWriteStatus(trackingId, State.FAILED, null, message);
+    }
+
+    public enum State {
+        PENDING,
+        CREATED,
+        DUPLICATE,
+        FAILED
+    }
+}
@@ -0,0 +1,9 @@
+package dev.angelcruzl.springboot.testing.event;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+
+import java.util.List;
+
+// A batch the outbox relay numbered and committed, in seq order
+public record EmployeeChangesPublishedEvent(List<EmployeeChange> changes) {
+}
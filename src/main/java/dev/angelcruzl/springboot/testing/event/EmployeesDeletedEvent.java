@@ -0,0 +1,6 @@
+package dev.angelcruzl.springboot.testing.event;
+
+import java.util.List;
+
+public record EmployeesDeletedEvent(List<Long> ids) {
+}
@@ -0,0 +1,7 @@
+package dev.angelcruzl.springboot.testing.event;
+
+import java.util.List;
+
+// A bulk name update; a null name was left unchanged
+public record EmployeesRenamedEvent(List<Long> ids, String firstName, String lastName) {
+}
@@ -0,0 +1,9 @@
+package dev.angelcruzl.springboot.testing.event;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+
+import java.util.List;
+
+// Employees created or fully replaced, with the values that were written
+public record EmployeesSavedEvent(List<EmployeeView> employees) {
+}
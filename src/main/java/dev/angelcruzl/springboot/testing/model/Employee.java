@@ -1,7 +1,11 @@
 package dev.angelcruzl.springboot.testing.model;
 
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
@@ -9,10 +13,21 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "employees")
+@Table(name = "employees",
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_CONSTRAINT, columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_employees_first_name_last_name", columnList = "first_name, last_name"),
+                @Index(name = "idx_employees_last_name_first_name", columnList = "last_name, first_name")
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.EMPLOYEE_REGION)
 public class Employee {
+    public static final String EMAIL_CONSTRAINT = "uk_employees_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled ids let Hibernate batch inserts, which IDENTITY columns rule out
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false)
@@ -23,4 +38,10 @@ public class Employee {
 
     @Column(name = "email", nullable = false)
     private String email;
+
+    // bumped by every write, including the JPQL and R2DBC bulk updates; exposed as the ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version")
+    private Long version;
 }
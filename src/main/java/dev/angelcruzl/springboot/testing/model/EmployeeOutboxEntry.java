@@ -0,0 +1,49 @@
+package dev.angelcruzl.springboot.testing.model;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// One employee change, written in the transaction that made it. The relay numbers it once committed.
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "employee_outbox",
+        indexes = @Index(name = "idx_employee_outbox_seq", columnList = "seq", unique = true))
+public class EmployeeOutboxEntry {
+
+    // The relay publishes in id order, so ids must follow the order writes to one employee commit in. An identity
+    // is taken at insert, while the transaction holds the employee's row lock; pooled sequence blocks are held per
+    // instance and would not be. Hibernate inserts identity rows one by one instead of in JDBC batches.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // position in the change feed, null until the relay publishes the entry
+    @Column(name = "seq")
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private EmployeeChange.Type type;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
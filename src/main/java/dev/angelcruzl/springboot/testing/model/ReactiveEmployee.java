@@ -0,0 +1,27 @@
+package dev.angelcruzl.springboot.testing.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// R2DBC mapping of the employees table owned by Employee; the schema and id sequence stay with JPA
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table("employees")
+public class ReactiveEmployee {
+    @Id
+    private Long id;
+
+    @Column("first_name")
+    private String firstName;
+
+    @Column("last_name")
+    private String lastName;
+
+    @Column("email")
+    private String email;
+}
@@ -0,0 +1,39 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.model.EmployeeOutboxEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEntry, Long> {
+    // Locked, so a relay on another instance waits for these entries instead of numbering them a second time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EmployeeOutboxEntry> findBySeqIsNullOrderByIdAsc(Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT COALESCE(MAX(o.seq), 0) FROM EmployeeOutboxEntry o")
+    long findMaxSeq();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new dev.angelcruzl.springboot.testing.dto.EmployeeChange(o.seq, o.type, o.employeeId, "
+            + "o.firstName, o.lastName, o.email, o.changedAt) "
+            + "FROM EmployeeOutboxEntry o WHERE o.seq > :since ORDER BY o.seq")
+    List<EmployeeChange> findChangesSince(@Param("since") long since, Limit limit);
+
+    @Query("SELECT MAX(o.seq) FROM EmployeeOutboxEntry o WHERE o.changedAt < :before")
+    Long findMaxSeqChangedBefore(@Param("before") Instant before);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmployeeOutboxEntry o WHERE o.seq <= :seq")
+    int removeUpToSeq(@Param("seq") long seq);
+}
@@ -1,18 +1,44 @@
 package dev.angelcruzl.springboot.testing.repository;
 
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
 import dev.angelcruzl.springboot.testing.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+    // Query cache: the ids are cached per parameters and dropped whenever the employees table changes through
+    // Hibernate; the entities themselves come from the entity region. Native queries stay uncached.
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION)
+    })
     Optional<Employee> findByEmail(String email);
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION)
+    })
     @Query("SELECT e FROM Employee e WHERE e.firstName = ?1 AND e.lastName = ?2")
     Employee findByJPQL(String firstName, String lastName);
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION)
+    })
     @Query("SELECT e FROM Employee e WHERE e.firstName = :firstName AND e.lastName = :lastName")
     Employee findByJPQLNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
@@ -22,4 +48,70 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query(value = "SELECT * FROM employees WHERE first_name = :firstName AND last_name = :lastName", nativeQuery = true)
     Employee findByNativeQueryNamedParams(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    List<Employee> findByEmailIn(Collection<String> emails);
+
+    // Single-row writes are native: for JPQL DML Hibernate empties the whole employee region and the query cache.
+    // Callers evict the written row with evictFromSecondLevelCache once the write has committed.
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = HibernateCacheConfig.EMPLOYEE_ROW_SPACE))
+    @Query(value = "UPDATE employees SET first_name = :firstName, last_name = :lastName, email = :email, "
+            + "version = version + 1 WHERE id = :id", nativeQuery = true)
+    int updateById(@Param("id") Long id, @Param("firstName") String firstName,
+                   @Param("lastName") String lastName, @Param("email") String email);
+
+    // Compare-and-set on the version, no read needed; 0 rows means a stale version or a missing employee
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = HibernateCacheConfig.EMPLOYEE_ROW_SPACE))
+    @Query(value = "UPDATE employees SET first_name = :firstName, last_name = :lastName, email = :email, "
+            + "version = version + 1 WHERE id = :id AND version = :version", nativeQuery = true)
+    int updateByIdAndVersion(@Param("id") Long id, @Param("version") Long version, @Param("firstName") String firstName,
+                             @Param("lastName") String lastName, @Param("email") String email);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = HibernateCacheConfig.EMPLOYEE_ROW_SPACE))
+    @Query(value = "DELETE FROM employees WHERE id = :id", nativeQuery = true)
+    int removeById(@Param("id") Long id);
+
+    @Query("SELECT new dev.angelcruzl.springboot.testing.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email) "
+            + "FROM Employee e")
+    List<EmployeeView> findAllViews();
+
+    List<EmployeeView> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // the domain is matched literally, so "%" or "_" in it cannot widen the selection
+    default List<Long> findIdsByFilter(Long after, String emailDomain, String lastName, Limit limit) {
+        String emailSuffix = emailDomain == null ? null
+                : "%@" + emailDomain.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return findIdsByEmailSuffix(after, emailSuffix, lastName, limit);
+    }
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id > :after "
+            + "AND (:emailSuffix IS NULL OR e.email LIKE :emailSuffix ESCAPE '\\') "
+            + "AND (:lastName IS NULL OR e.lastName = :lastName) ORDER BY e.id")
+    List<Long> findIdsByEmailSuffix(@Param("after") Long after, @Param("emailSuffix") String emailSuffix,
+                                    @Param("lastName") String lastName, Limit limit);
+
+    // Bulk writes join the caller's per-chunk transaction, or commit per call without one, so a large change holds
+    // row locks one chunk at a time
+    @Transactional
+    @Modifying
+    @Query("UPDATE Employee e SET e.firstName = COALESCE(:firstName, e.firstName), "
+            + "e.lastName = COALESCE(:lastName, e.lastName), e.version = e.version + 1 WHERE e.id IN :ids")
+    int updateNamesByIds(@Param("ids") Collection<Long> ids, @Param("firstName") String firstName,
+                         @Param("lastName") String lastName);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int removeByIds(@Param("ids") Collection<Long> ids);
+
+    // Must be consumed inside a transaction and closed; the fetch size keeps the driver from buffering the whole table
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new dev.angelcruzl.springboot.testing.dto.EmployeeView(e.id, e.firstName, e.lastName, e.email) "
+            + "FROM Employee e ORDER BY e.id")
+    Stream<EmployeeView> streamAll();
+
 }
@@ -0,0 +1,27 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.model.Employee;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface EmployeeRepositoryCustom {
+    Set<String> SELECTABLE_FIELDS = Set.of("id", "firstName", "lastName", "email");
+
+    // Selects only the given SELECTABLE_FIELDS, one map per row keyed by attribute name in request order
+    List<Map<String, Object>> findAllFields(Collection<String> fields);
+
+    // Prefix search; the sort must be one of SELECTABLE_FIELDS
+    List<EmployeeView> search(EmployeeSearchCriteria criteria);
+
+    // Ordered like ids with null where no employee exists. Served from the second-level cache where possible,
+    // the rest with one IN query per batchSize ids.
+    List<Employee> loadAllById(List<Long> ids, int batchSize);
+
+    // Drops these employees from the second-level entity region, and the cached lookups that may point at them
+    void evictFromSecondLevelCache(Collection<Long> ids);
+}
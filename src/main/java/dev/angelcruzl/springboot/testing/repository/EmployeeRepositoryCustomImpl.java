@@ -0,0 +1,114 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    // Each sort is completed with the columns that follow it in its index (the primary key is implicit in
+    // secondary indexes), so the order is unique and the database can read rows in index order without sorting
+    private static final Map<String, List<String>> SORT_COLUMNS = Map.of(
+            "id", List.of("id"),
+            "firstName", List.of("firstName", "lastName", "id"),
+            "lastName", List.of("lastName", "firstName", "id"),
+            "email", List.of("email"));
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Collection<String> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> employee.get(field).alias(field))
+                .toList();
+        query.multiselect(selections);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    fields.forEach(field -> row.put(field, tuple.get(field)));
+                    return row;
+                })
+                .toList();
+    }
+
+    @Override
+    public List<Employee> loadAllById(List<Long> ids, int batchSize) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Employee.class)
+                .withBatchSize(batchSize)
+                .multiLoad(ids);
+    }
+
+    @Override
+    public void evictFromSecondLevelCache(Collection<Long> ids) {
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        ids.forEach(id -> entityManagerFactory.getCache().evict(Employee.class, id));
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION);
+    }
+
+    @Override
+    public List<EmployeeView> search(EmployeeSearchCriteria criteria) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeView> query = criteriaBuilder.createQuery(EmployeeView.class);
+        Root<Employee> employee = query.from(Employee.class);
+        query.select(criteriaBuilder.construct(EmployeeView.class, employee.get("id"), employee.get("firstName"),
+                employee.get("lastName"), employee.get("email")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        addPrefix(predicates, criteriaBuilder, employee.get("firstName"), criteria.getFirstName());
+        addPrefix(predicates, criteriaBuilder, employee.get("lastName"), criteria.getLastName());
+        addPrefix(predicates, criteriaBuilder, employee.get("email"), criteria.getEmail());
+        query.where(predicates.toArray(Predicate[]::new));
+
+        List<Order> orders = new ArrayList<>();
+        for (String column : SORT_COLUMNS.get(criteria.getSort())) {
+            Path<Object> path = employee.get(column);
+            orders.add(criteria.isDescending() ? criteriaBuilder.desc(path) : criteriaBuilder.asc(path));
+        }
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(criteria.getLimit())
+                .getResultList();
+    }
+
+    // LIKE 'prefix%' is a range scan on a B-tree index, unlike a leading wildcard or a function on the column.
+    // Case sensitivity follows the column collation (case-insensitive with MySQL's defaults).
+    private static void addPrefix(List<Predicate> predicates, CriteriaBuilder criteriaBuilder, Path<String> path,
+                                  String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return;
+        }
+
+        String escaped = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        predicates.add(criteriaBuilder.like(path, escaped + "%", LIKE_ESCAPE));
+    }
+}
@@ -0,0 +1,63 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Hands out ids from the employees_seq generator Hibernate uses for Employee. With the pooled-lo optimizer a
+// sequence value V reserves [V, V + ALLOCATION_SIZE), so both stacks can draw blocks without colliding.
+@Component
+public class ReactiveEmployeeIdAllocator {
+
+    // must match the allocationSize of the employees_seq generator on Employee
+    public static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    private long next;
+
+    private long limit;
+
+    public Mono<Long> nextId() {
+        synchronized (this) {
+            if (next < limit) {
+                return Mono.just(next++);
+            }
+        }
+
+        return fetchBlockStart().map(start -> {
+            // a concurrent fetch may replace this block; its unused ids are skipped, never reused
+            synchronized (this) {
+                next = start + 1;
+                limit = start + ALLOCATION_SIZE;
+            }
+            return start;
+        });
+    }
+
+    // runs on its own auto-commit connection so the sequence row is never held by a caller's transaction
+    private Mono<Long> fetchBlockStart() {
+        return Mono.usingWhen(connectionFactory.create(), connection -> {
+            if (connection.getMetadata().getDatabaseProductName().startsWith("H2")) {
+                return singleLong(connection, "SELECT NEXT VALUE FOR employees_seq");
+            }
+            // MySQL has no sequences; Hibernate emulates employees_seq with a single-row next_val table
+            return Flux.from(connection.createStatement(
+                            "UPDATE employees_seq SET next_val = LAST_INSERT_ID(next_val + " + ALLOCATION_SIZE + ")")
+                            .execute())
+                    .flatMap(Result::getRowsUpdated)
+                    .then(singleLong(connection, "SELECT LAST_INSERT_ID() - " + ALLOCATION_SIZE));
+        }, Connection::close);
+    }
+
+    private Mono<Long> singleLong(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+                .flatMap(result -> result.map((row, metadata) -> row.get(0, Long.class)))
+                .single();
+    }
+}
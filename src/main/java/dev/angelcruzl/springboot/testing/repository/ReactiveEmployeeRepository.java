@@ -0,0 +1,28 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeRepository extends R2dbcRepository<ReactiveEmployee, Long> {
+    Mono<ReactiveEmployee> findByEmail(String email);
+
+    Flux<ReactiveEmployee> findAllByOrderByIdAsc();
+
+    Flux<ReactiveEmployee> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE employees SET first_name = :firstName, last_name = :lastName, email = :email, version = version + 1 "
+            + "WHERE id = :id")
+    Mono<Integer> updateById(@Param("id") Long id, @Param("firstName") String firstName,
+                             @Param("lastName") String lastName, @Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM employees WHERE id = :id")
+    Mono<Integer> removeById(@Param("id") Long id);
+}
@@ -0,0 +1,28 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChangePage;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+public interface EmployeeChangeFeedService {
+    int MAX_CHANGES = 1000;
+
+    Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    // seq of the newest published change; a consumer takes it before a full load and follows the feed from there
+    long getLatestSeq();
+
+    // Up to limit changes after since. ResourceGoneException when changes after since were already purged.
+    EmployeeChangePage getChanges(long since, int limit);
+
+    // Completes with up to limit changes after since once there are any, or with none after wait. Nothing blocks
+    // while it waits. Throws ResourceGoneException like getChanges, or completes with it when the changes are
+    // purged while it waits.
+    CompletableFuture<EmployeeChangePage> awaitChanges(long since, int limit, Duration wait);
+
+    // Streams every change after since to the subscriber until it is unsubscribed, fails or is gone
+    void subscribe(long since, EmployeeChangeSubscriber subscriber);
+
+    void unsubscribe(EmployeeChangeSubscriber subscriber);
+}
@@ -0,0 +1,16 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+
+import java.io.IOException;
+import java.util.List;
+
+// Receives a change stream, see EmployeeChangeFeedService.subscribe. Called on one of the feed's sender threads,
+// never for the same subscriber twice at once.
+public interface EmployeeChangeSubscriber {
+    // the next changes in seq order, or none as a heartbeat; throwing ends the subscription
+    void onChanges(List<EmployeeChange> changes) throws IOException;
+
+    // the changes after the subscriber's cursor were purged; the subscription has ended
+    void onGone();
+}
@@ -0,0 +1,21 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface EmployeeImportService {
+    EmployeeImportStatus startImport(InputStream body, Format format);
+
+    Optional<EmployeeImportStatus> getImportStatus(String jobId);
+
+    // CSV of row, email and reason for every rejected row; complete once the import is no longer RUNNING
+    Optional<Path> getRejectsFile(String jobId);
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+}
@@ -1,18 +1,47 @@
 package dev.angelcruzl.springboot.testing.service;
 
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
 import dev.angelcruzl.springboot.testing.model.Employee;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     Employee saveEmployee(Employee employee);
 
-    List<Employee> getAllEmployees();
+    List<EmployeeBatchResult> saveEmployees(List<Employee> employees);
+
+    List<EmployeeView> getAllEmployees();
+
+    List<Map<String, Object>> getAllEmployeeFields(List<String> fields);
+
+    EmployeePage<EmployeeView> getEmployeesPage(Long after, int limit);
+
+    List<EmployeeView> searchEmployees(EmployeeSearchCriteria criteria);
+
+    void forEachEmployee(Consumer<EmployeeView> action);
 
     Optional<Employee> getEmployeeById(Long id);
 
+    Optional<Employee> getEmployeeByEmail(String email);
+
+    EmployeeLookupResult lookupEmployees(EmployeeLookupRequest request);
+
+    // a non-null version makes the update conditional on it
     Employee updateEmployee(Employee updatedEmployee);
 
     void deleteEmployee(Long id);
+
+    EmployeeBulkResult updateEmployees(EmployeeBulkRequest request);
+
+    EmployeeBulkResult deleteEmployees(EmployeeBulkRequest request);
 }
@@ -0,0 +1,11 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+
+import java.util.List;
+
+public interface EmployeeSuggestionService {
+    List<EmployeeView> suggest(String query, int limit);
+
+    void rebuild();
+}
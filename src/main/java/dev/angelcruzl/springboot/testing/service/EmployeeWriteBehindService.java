@@ -0,0 +1,16 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeWriteStatus;
+import dev.angelcruzl.springboot.testing.model.Employee;
+
+import java.util.Optional;
+
+public interface EmployeeWriteBehindService {
+    // false while write-behind is disabled, or the application is starting or stopping
+    boolean isRunning();
+
+    // journals the employee and queues it for the background writer; TooManyRequestsException when the queue is full
+    EmployeeWriteStatus enqueue(Employee employee);
+
+    Optional<EmployeeWriteStatus> getStatus(String trackingId);
+}
@@ -0,0 +1,22 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+    Mono<ReactiveEmployee> saveEmployee(ReactiveEmployee employee);
+
+    Flux<ReactiveEmployee> getAllEmployees();
+
+    Mono<EmployeePage<ReactiveEmployee>> getEmployeesPage(Long after, int limit);
+
+    Mono<ReactiveEmployee> getEmployeeById(Long id);
+
+    Mono<ReactiveEmployee> getEmployeeByEmail(String email);
+
+    Mono<ReactiveEmployee> updateEmployee(ReactiveEmployee updatedEmployee);
+
+    Mono<Void> deleteEmployee(Long id);
+}
@@ -0,0 +1,274 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChangePage;
+import dev.angelcruzl.springboot.testing.event.EmployeeChangesPublishedEvent;
+import dev.angelcruzl.springboot.testing.exception.ResourceGoneException;
+import dev.angelcruzl.springboot.testing.repository.EmployeeOutboxRepository;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeFeedService;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeSubscriber;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+// Not transactional: nothing holds a connection or a request thread while it waits. Long polls are parked as
+// waiters and streams as subscribers. One thread reads the changes after the furthest-behind of them once per
+// publish or POLL_INTERVAL, the latter to see what a relay on another instance published, completes the waiters
+// and hands every subscriber the part after its own cursor. The sends run on the sender threads, one at a time per
+// subscriber, so a client that stops reading holds only its own sender until its write times out.
+@Service
+public class EmployeeChangeFeedServiceImpl implements EmployeeChangeFeedService {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    // an idle stream gets an empty delivery this often, so proxies keep the connection open
+    private static final Duration HEARTBEAT = Duration.ofSeconds(15);
+
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    // subscriber to the seq it has received up to
+    private final Map<EmployeeChangeSubscriber, Long> subscribers = new ConcurrentHashMap<>();
+
+    // subscribers with a send in progress; the fan-out skips them until it is done
+    private final Set<EmployeeChangeSubscriber> sending = ConcurrentHashMap.newKeySet();
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    // a fan-out is queued on the stream thread and has not started yet
+    private final AtomicBoolean fanOutPending = new AtomicBoolean();
+
+    private ScheduledExecutorService streams;
+
+    private ExecutorService senders;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (streams != null) {
+            return;
+        }
+        streams = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-change-streams");
+            thread.setDaemon(true);
+            return thread;
+        });
+        senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "employee-change-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        streams.scheduleWithFixedDelay(this::fanOut, POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(),
+                TimeUnit.MILLISECONDS);
+        streams.scheduleWithFixedDelay(this::heartbeat, HEARTBEAT.toMillis(), HEARTBEAT.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (streams != null) {
+            streams.shutdownNow();
+            senders.shutdownNow();
+            streams = null;
+            senders = null;
+        }
+        subscribers.clear();
+        sending.clear();
+    }
+
+    @Override
+    public long getLatestSeq() {
+        return outboxRepository.findMaxSeq();
+    }
+
+    @Override
+    public EmployeeChangePage getChanges(long since, int limit) {
+        List<EmployeeChange> changes = outboxRepository.findChangesSince(since, Limit.of(pageSize(limit)));
+        if (changes.isEmpty()) {
+            return new EmployeeChangePage(List.of(), since);
+        }
+        // seq has no gaps, so a jump means the changes in between were purged
+        if (changes.get(0).getSeq() != since + 1) {
+            throw gone(since);
+        }
+        return new EmployeeChangePage(changes, changes.get(changes.size() - 1).getSeq());
+    }
+
+    @Override
+    public CompletableFuture<EmployeeChangePage> awaitChanges(long since, int limit, Duration wait) {
+        EmployeeChangePage page = getChanges(since, limit);
+        if (!page.getChanges().isEmpty() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(page);
+        }
+
+        Waiter waiter = new Waiter(since, pageSize(limit), new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.page()
+                .completeOnTimeout(page, (wait.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : wait).toMillis(),
+                        TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> waiters.remove(waiter));
+        // a publish between the query and add() fanned out without this waiter
+        requestFanOut();
+        return waiter.page();
+    }
+
+    @Override
+    public void subscribe(long since, EmployeeChangeSubscriber subscriber) {
+        subscribers.put(subscriber, since);
+        requestFanOut();
+    }
+
+    @Override
+    public void unsubscribe(EmployeeChangeSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @EventListener
+    public void onPublished(EmployeeChangesPublishedEvent event) {
+        requestFanOut();
+    }
+
+    private void requestFanOut() {
+        ScheduledExecutorService executor = streams;
+        if (executor != null && (!subscribers.isEmpty() || !waiters.isEmpty())
+                && fanOutPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::fanOut);
+            } catch (RejectedExecutionException e) {
+                // stopped meanwhile
+            }
+        }
+    }
+
+    private void fanOut() {
+        fanOutPending.set(false);
+        try {
+            // whoever had changes in a round is completed, gone or sending afterwards, so since only grows
+            while (true) {
+                OptionalLong since = LongStream.concat(
+                        subscribers.entrySet().stream()
+                                .filter(entry -> !sending.contains(entry.getKey()))
+                                .mapToLong(Map.Entry::getValue),
+                        waiters.stream().mapToLong(Waiter::since)).min();
+                if (since.isEmpty()) {
+                    return;
+                }
+                List<EmployeeChange> changes = outboxRepository.findChangesSince(since.getAsLong(),
+                        Limit.of(MAX_CHANGES));
+                if (changes.isEmpty()) {
+                    return;
+                }
+                waiters.forEach(waiter -> complete(waiter, changes));
+                subscribers.forEach((subscriber, cursor) -> {
+                    if (!sending.contains(subscriber)) {
+                        deliver(subscriber, cursor, changes);
+                    }
+                });
+                if (changes.size() < MAX_CHANGES) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // the database is unreachable; the subscribers keep their cursors for the next tick
+        }
+    }
+
+    private void complete(Waiter waiter, List<EmployeeChange> changes) {
+        int from = firstAfter(changes, waiter.since());
+        if (from == changes.size()) {
+            return;
+        }
+        if (changes.get(from).getSeq() != waiter.since() + 1) {
+            waiter.page().completeExceptionally(gone(waiter.since()));
+            return;
+        }
+        List<EmployeeChange> page = List.copyOf(changes.subList(from, Math.min(from + waiter.limit(), changes.size())));
+        waiter.page().complete(new EmployeeChangePage(page, page.get(page.size() - 1).getSeq()));
+    }
+
+    private void deliver(EmployeeChangeSubscriber subscriber, long cursor, List<EmployeeChange> changes) {
+        int from = firstAfter(changes, cursor);
+        if (from == changes.size()) {
+            return;
+        }
+        // seq has no gaps, so a jump means the changes in between were purged
+        if (changes.get(from).getSeq() != cursor + 1) {
+            subscribers.remove(subscriber);
+            subscriber.onGone();
+            return;
+        }
+        send(subscriber, List.copyOf(changes.subList(from, changes.size())));
+    }
+
+    private void heartbeat() {
+        subscribers.keySet().forEach(subscriber -> send(subscriber, List.of()));
+    }
+
+    // A subscriber already sending is skipped, its send keeps the connection alive and a fan-out follows it
+    private void send(EmployeeChangeSubscriber subscriber, List<EmployeeChange> changes) {
+        ExecutorService executor = senders;
+        if (executor == null || !sending.add(subscriber)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    subscriber.onChanges(changes);
+                    if (!changes.isEmpty()) {
+                        long last = changes.get(changes.size() - 1).getSeq();
+                        subscribers.computeIfPresent(subscriber, (key, previous) -> last);
+                    }
+                } catch (Exception e) {
+                    // the client went away
+                    subscribers.remove(subscriber);
+                } finally {
+                    sending.remove(subscriber);
+                }
+                // changes published during the send were fanned out without this subscriber
+                if (!changes.isEmpty()) {
+                    requestFanOut();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            sending.remove(subscriber);
+        }
+    }
+
+    private static int firstAfter(List<EmployeeChange> changes, long cursor) {
+        int index = 0;
+        while (index < changes.size() && changes.get(index).getSeq() <= cursor) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_CHANGES);
+    }
+
+    private static ResourceGoneException gone(long since) {
+        return new ResourceGoneException("Changes after " + since + " are no longer retained, "
+                + "reload the employees and follow the feed from the latest seq");
+    }
+
+    // a parked long poll
+    private record Waiter(long since, int limit, CompletableFuture<EmployeeChangePage> page) {
+    }
+}
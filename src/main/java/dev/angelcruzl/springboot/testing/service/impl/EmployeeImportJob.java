@@ -0,0 +1,95 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one import, shared by its parsing and writing threads
+class EmployeeImportJob {
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+
+    @Getter
+    private final Path rejectsFile;
+
+    private final SequenceWriter rejectsWriter;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+
+    private final AtomicLong imported = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Getter
+    private volatile EmployeeImportStatus.State state = EmployeeImportStatus.State.RUNNING;
+
+    private volatile String error;
+
+    EmployeeImportJob(CsvMapper csvMapper) throws IOException {
+        rejectsFile = Files.createTempFile("employee-import-", "-rejects.csv");
+        rejectsWriter = csvMapper.writer(csvMapper.schemaFor(Reject.class).withHeader())
+                .writeValues(rejectsFile.toFile());
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(long rows) {
+        imported.addAndGet(rows);
+    }
+
+    synchronized void reject(long row, String email, String reason) {
+        rejected.incrementAndGet();
+        try {
+            rejectsWriter.write(new Reject(row, email, reason));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void complete() {
+        closeRejects();
+        state = EmployeeImportStatus.State.COMPLETED;
+    }
+
+    void fail(Throwable cause) {
+        closeRejects();
+        error = cause.getMessage();
+        state = EmployeeImportStatus.State.FAILED;
+    }
+
+    void deleteRejects() {
+        try {
+            Files.deleteIfExists(rejectsFile);
+        } catch (IOException ignored) {
+            // a leftover temp file is not worth failing over
+        }
+    }
+
+    EmployeeImportStatus toStatus() {
+        return new EmployeeImportStatus(id, state, rowsRead.get(), imported.get(), rejected.get(), error);
+    }
+
+    private synchronized void closeRejects() {
+        try {
+            rejectsWriter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @JsonPropertyOrder({"row", "email", "reason"})
+    record Reject(long row, String email, String reason) {
+    }
+}
@@ -0,0 +1,282 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.EmployeeImportService;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// Imports run as a two-stage pipeline: one thread parses and validates rows while another writes the previous
+// chunks through saveEmployees, which de-duplicates each chunk against the table and inserts it in JDBC batches.
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    // rows per hand-off between the stages, and per saveEmployees transaction
+    public static final int CHUNK_SIZE = EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE;
+
+    // chunks parsed ahead of the writer; bounds an import's memory whatever the file size
+    public static final int QUEUE_CAPACITY = 4;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    // imports are rare and long-running, so they get their own threads instead of the shared task executor
+    private final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("employee-import-");
+
+    private final Cache<String, EmployeeImportJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .<String, EmployeeImportJob>removalListener((id, job, cause) -> job.deleteRejects())
+            .build();
+
+    @Override
+    public EmployeeImportStatus startImport(InputStream body, Format format) {
+        Path upload = null;
+        EmployeeImportJob job;
+        try {
+            // spool the body to disk so the request returns while the import runs; copied a buffer at a time
+            upload = Files.createTempFile("employee-import-", ".upload");
+            Files.copy(body, upload, StandardCopyOption.REPLACE_EXISTING);
+            job = new EmployeeImportJob(csvMapper);
+        } catch (IOException e) {
+            deleteQuietly(upload);
+            throw new UncheckedIOException(e);
+        }
+
+        jobs.put(job.getId(), job);
+        Path spooled = upload;
+        taskExecutor.execute(() -> run(job, spooled, format));
+        return job.toStatus();
+    }
+
+    @Override
+    public Optional<EmployeeImportStatus> getImportStatus(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(EmployeeImportJob::toStatus);
+    }
+
+    @Override
+    public Optional<Path> getRejectsFile(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(EmployeeImportJob::getRejectsFile);
+    }
+
+    private void run(EmployeeImportJob job, Path upload, Format format) {
+        BlockingQueue<List<ImportRow>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> write(job, queue), taskExecutor);
+        try (InputStream in = Files.newInputStream(upload)) {
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            RowReader rows = format == Format.CSV ? csvRows(in) : ndjsonRows(in);
+            for (ImportRow row = rows.next(); row != null; row = rows.next()) {
+                job.rowRead();
+                String reason = row.employee() == null ? row.parseError() : validate(row.employee());
+                if (reason != null) {
+                    job.reject(row.number(), row.employee() == null ? null : row.employee().getEmail(), reason);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    handOff(queue, chunk, writer);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                handOff(queue, chunk, writer);
+            }
+            // an empty chunk tells the writer the input is exhausted
+            handOff(queue, List.of(), writer);
+            writer.join();
+            job.complete();
+        } catch (Exception e) {
+            // stop the writer after the chunk it may be saving, and let that chunk finish before fail() closes the
+            // rejects its results are written to
+            queue.clear();
+            queue.offer(List.of());
+            writer.handle((ignored, writeError) -> null).join();
+            job.fail(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void handOff(BlockingQueue<List<ImportRow>> queue, List<ImportRow> chunk, CompletableFuture<Void> writer)
+            throws InterruptedException {
+        // blocks while the writer is QUEUE_CAPACITY chunks behind, unless the writer has died
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.join();
+            }
+        }
+    }
+
+    private void write(EmployeeImportJob job, BlockingQueue<List<ImportRow>> queue) {
+        try {
+            for (List<ImportRow> chunk = queue.take(); !chunk.isEmpty(); chunk = queue.take()) {
+                List<EmployeeBatchResult> results = saveChunk(chunk);
+                long imported = 0;
+                for (int i = 0; i < results.size(); i++) {
+                    EmployeeBatchResult result = results.get(i);
+                    if (result.getStatus() == EmployeeBatchResult.Status.CREATED) {
+                        imported++;
+                    } else {
+                        ImportRow row = chunk.get(i);
+                        job.reject(row.number(), row.employee().getEmail(), result.getMessage());
+                    }
+                }
+                job.imported(imported);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+    }
+
+    private List<EmployeeBatchResult> saveChunk(List<ImportRow> chunk) {
+        List<Employee> employees = chunk.stream().map(ImportRow::employee).toList();
+        try {
+            return employeeService.saveEmployees(employees);
+        } catch (DuplicateResourceException e) {
+            // another writer inserted one of these emails after the pre-check; a second pass now sees it
+            employees.forEach(employee -> {
+                employee.setId(null);
+                employee.setVersion(null);
+            });
+            return employeeService.saveEmployees(employees);
+        }
+    }
+
+    private RowReader csvRows(InputStream in) throws IOException {
+        MappingIterator<Employee> iterator = csvMapper.readerFor(Employee.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(in);
+        long[] number = {0};
+        return () -> {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+            number[0]++;
+            try {
+                return ImportRow.parsed(number[0], iterator.nextValue());
+            } catch (JsonParseException e) {
+                // the reader cannot resynchronize after broken CSV syntax
+                throw e;
+            } catch (JsonProcessingException e) {
+                return ImportRow.unreadable(number[0], "Unreadable row: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private RowReader ndjsonRows(InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ObjectReader employeeReader = objectMapper.readerFor(Employee.class);
+        long[] number = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            number[0]++;
+            try {
+                return ImportRow.parsed(number[0], employeeReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                // each line is a separate document, so one bad line does not affect the rest
+                return ImportRow.unreadable(number[0], "Unreadable row: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    // null when the row can go to saveEmployees; the write-behind queue checks employees the same way
+    static String validate(Employee employee) {
+        if (isBlank(employee.getFirstName())) {
+            return "firstName is required";
+        }
+        if (isBlank(employee.getLastName())) {
+            return "lastName is required";
+        }
+        if (isBlank(employee.getEmail())) {
+            return "email is required";
+        }
+        if (employee.getEmail().indexOf('@') < 1) {
+            return "email is not valid";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // a leftover temp file is not worth failing over
+        }
+    }
+
+    private interface RowReader {
+        // null once the input is exhausted
+        ImportRow next() throws IOException;
+    }
+
+    // number is the 1-based position of the row in the file, not counting a CSV header
+    private record ImportRow(long number, Employee employee, String parseError) {
+        static ImportRow parsed(long number, Employee employee) {
+            // ids and versions are always assigned by the database
+            employee.setId(null);
+            employee.setVersion(null);
+            return new ImportRow(number, employee, null);
+        }
+
+        static ImportRow unreadable(long number, String parseError) {
+            return new ImportRow(number, null, parseError);
+        }
+    }
+}
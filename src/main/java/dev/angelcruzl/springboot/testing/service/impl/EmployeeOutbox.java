@@ -0,0 +1,63 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesRenamedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.model.EmployeeOutboxEntry;
+import dev.angelcruzl.springboot.testing.repository.EmployeeOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+// Records every employee write event in the outbox just before its transaction commits, so the entries commit
+// or roll back with the change. v2 writes commit through R2DBC outside any JPA transaction; theirs are written
+// right after, in a transaction of their own, and so are not ordered by the employee's row lock either.
+@Component
+public class EmployeeOutbox {
+
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onSaved(EmployeesSavedEvent event) {
+        Instant now = Instant.now();
+        outboxRepository.saveAll(event.employees().stream()
+                .map(employee -> entry(EmployeeChange.Type.SAVED, employee.getId(), now)
+                        .firstName(employee.getFirstName())
+                        .lastName(employee.getLastName())
+                        .email(employee.getEmail())
+                        .build())
+                .toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRenamed(EmployeesRenamedEvent event) {
+        Instant now = Instant.now();
+        outboxRepository.saveAll(event.ids().stream()
+                .map(id -> entry(EmployeeChange.Type.RENAMED, id, now)
+                        .firstName(event.firstName())
+                        .lastName(event.lastName())
+                        .build())
+                .toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDeleted(EmployeesDeletedEvent event) {
+        Instant now = Instant.now();
+        outboxRepository.saveAll(event.ids().stream()
+                .map(id -> entry(EmployeeChange.Type.DELETED, id, now).build())
+                .toList());
+    }
+
+    private static EmployeeOutboxEntry.EmployeeOutboxEntryBuilder entry(EmployeeChange.Type type, Long employeeId,
+                                                                       Instant changedAt) {
+        return EmployeeOutboxEntry.builder()
+                .type(type)
+                .employeeId(employeeId)
+                .changedAt(changedAt);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.event.EmployeeChangesPublishedEvent;
+import dev.angelcruzl.springboot.testing.model.EmployeeOutboxEntry;
+import dev.angelcruzl.springboot.testing.repository.EmployeeOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Numbers committed outbox entries and announces them a batch at a time. Ids are taken before commit, so a
+// reader following them could pass an entry whose transaction commits late; seq is handed out here, after
+// commit and one batch at a time, so a feed cursor never skips one.
+@Component
+public class EmployeeOutboxRelay {
+
+    public static final int BATCH_SIZE = EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE;
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${employee.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.outbox.relay.interval-ms:200}")
+    private long intervalMillis;
+
+    // published changes older than this are purged; a consumer further behind gets 410 and starts over
+    @Value("${employee.outbox.retention:7d}")
+    private Duration retention;
+
+    private ScheduledExecutorService scheduler;
+
+    private Instant lastPurge = Instant.MIN;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::relay, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void relay() {
+        try {
+            while (publish() == BATCH_SIZE) {
+                // a backlog drains without waiting for the next tick
+            }
+            if (lastPurge.plus(PURGE_INTERVAL).isBefore(Instant.now())) {
+                purge();
+                lastPurge = Instant.now();
+            }
+        } catch (RuntimeException e) {
+            // the database is unreachable; the entries wait in the outbox for the next tick
+        }
+    }
+
+    // Returns how many entries were published
+    public int publish() {
+        List<EmployeeChange> published = transactionOperations.execute(status -> {
+            List<EmployeeOutboxEntry> entries = outboxRepository.findBySeqIsNullOrderByIdAsc(Limit.of(BATCH_SIZE));
+            if (entries.isEmpty()) {
+                return List.of();
+            }
+
+            long seq = outboxRepository.findMaxSeq();
+            List<EmployeeChange> changes = new ArrayList<>(entries.size());
+            for (EmployeeOutboxEntry entry : entries) {
+                entry.setSeq(++seq);
+                changes.add(new EmployeeChange(entry.getSeq(), entry.getType(), entry.getEmployeeId(),
+                        entry.getFirstName(), entry.getLastName(), entry.getEmail(), entry.getChangedAt()));
+            }
+            return changes;
+        });
+
+        if (!published.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeChangesPublishedEvent(published));
+        }
+        return published.size();
+    }
+
+    // Drops published changes past retention, oldest first so the rest stays contiguous. The newest is always
+    // kept: numbering continues from it.
+    public int purge() {
+        Long expired = outboxRepository.findMaxSeqChangedBefore(Instant.now().minus(retention));
+        if (expired == null) {
+            return 0;
+        }
+        return outboxRepository.removeUpToSeq(Math.min(expired, outboxRepository.findMaxSeq() - 1));
+    }
+}
@@ -1,58 +1,645 @@
 package dev.angelcruzl.springboot.testing.service.impl;
 
+import dev.angelcruzl.springboot.testing.config.CacheConfig;
+import dev.angelcruzl.springboot.testing.config.ReplicaRoutingDataSource;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeFilter;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesRenamedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.exception.BadRequestException;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.PreconditionFailedException;
 import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
 import dev.angelcruzl.springboot.testing.model.Employee;
 import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepositoryCustom;
 import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "employee.service", description = "EmployeeService calls, tagged by class and method")
 public class EmployeeServiceImpl implements EmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // keep in sync with spring.jpa.properties.hibernate.jdbc.batch_size
+    public static final int BATCH_SIZE = 50;
+
+    public static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    // ids and emails together per lookup request
+    public static final int MAX_LOOKUP_SIZE = 1000;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // absent where caching is not enabled, lookups then always go to the database
+    @Autowired(required = false)
+    private CacheManager cacheManager;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // Above zero, cache misses by id or email are collected for this long and resolved with one IN query
+    @Value("${employee.lookup.batch-window-ms:0}")
+    private long batchWindowMillis;
+
+    // concurrent cache misses for the same id or email share one query
+    private final SingleFlight<Long, Optional<Employee>> idFlights = new SingleFlight<>();
+
+    private final SingleFlight<String, Optional<Employee>> emailFlights = new SingleFlight<>();
+
+    private MicroBatcher<Long, Employee> idBatcher;
+
+    private MicroBatcher<String, Employee> emailBatcher;
+
+    // write events are delivered after commit, see EmployeeSuggestionServiceImpl, and recorded just before it,
+    // see EmployeeOutbox
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // one transaction per bulk chunk; slices without a transaction manager run the chunks as they are
+    @Autowired(required = false)
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @PostConstruct
+    public void startLookupCoalescing() {
+        if (batchWindowMillis > 0) {
+            // the repository's own read-only transactions, on the batcher thread and on the primary like every
+            // load that fills the caches
+            idBatcher = new MicroBatcher<>("employee-id-batcher", ids -> ReplicaRoutingDataSource.onPrimary(
+                    () -> employeeRepository.findAllById(ids).stream()
+                            .collect(Collectors.toMap(Employee::getId, Function.identity()))),
+                    Duration.ofMillis(batchWindowMillis), IN_CLAUSE_CHUNK_SIZE);
+            emailBatcher = new MicroBatcher<>("employee-email-batcher", emails -> ReplicaRoutingDataSource.onPrimary(
+                    () -> byRequestedEmail(emails, employeeRepository.findByEmailIn(emails))),
+                    Duration.ofMillis(batchWindowMillis), IN_CLAUSE_CHUNK_SIZE);
+        }
+        if (meterRegistry != null) {
+            bindLookupMeters("id", idFlights, idBatcher);
+            bindLookupMeters("email", emailFlights, emailBatcher);
+        }
+    }
+
+    @PreDestroy
+    public void stopLookupCoalescing() {
+        if (idBatcher != null) {
+            idBatcher.close();
+            emailBatcher.close();
+        }
+    }
+
+    private void bindLookupMeters(String key, SingleFlight<?, ?> flights, MicroBatcher<?, ?> batcher) {
+        FunctionCounter.builder("employee.lookup.coalesced", flights, SingleFlight::coalesced)
+                .description("Lookups answered by a query another request had in flight")
+                .tag("key", key)
+                .register(meterRegistry);
+        if (batcher != null) {
+            FunctionCounter.builder("employee.lookup.batches", batcher, MicroBatcher::batches)
+                    .description("IN queries issued for micro-batched lookups")
+                    .tag("key", key)
+                    .register(meterRegistry);
+            FunctionCounter.builder("employee.lookup.batched", batcher, MicroBatcher::batched)
+                    .description("Lookups resolved by micro-batch IN queries")
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+    }
+
+    // transactional so the outbox entry commits with the employee
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#result.id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, key = "#employee.email")
+    })
     public Employee saveEmployee(Employee employee) {
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if (savedEmployee.isPresent()) {
-            throw new ResourceNotFoundException("Employee with email " + employee.getEmail() + " already exists");
+        // the unique index on email is the duplicate check, which also holds under concurrent inserts
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, "Employee with email " + employee.getEmail() + " already exists");
         }
 
-        return employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeesSavedEvent(List.of(view(savedEmployee))));
+        return savedEmployee;
     }
 
     @Override
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public List<EmployeeBatchResult> saveEmployees(List<Employee> employees) {
+        List<String> emails = employees.stream()
+                .map(Employee::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // keyed case-insensitively, as the unique index compares them; stored and requested spellings may differ
+        Set<String> takenEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            employeeRepository.findExistingEmails(
+                            emails.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, emails.size())))
+                    .forEach(email -> takenEmails.add(email.toLowerCase(Locale.ROOT)));
+        }
+
+        EmployeeBatchResult[] results = new EmployeeBatchResult[employees.size()];
+        List<EmployeeView> created = new ArrayList<>(employees.size());
+        List<Integer> pendingIndexes = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < employees.size(); index++) {
+            Employee employee = employees.get(index);
+            // rejected here, the NOT NULL column would otherwise fail the whole batch
+            if (employee.getEmail() == null) {
+                results[index] = EmployeeBatchResult.invalid(index, "Employee email is required");
+                continue;
+            }
+            // add() also rejects repeats of the same email inside the request
+            if (!takenEmails.add(employee.getEmail().toLowerCase(Locale.ROOT))) {
+                results[index] = EmployeeBatchResult.duplicate(index, employee.getEmail());
+                continue;
+            }
+
+            pendingIndexes.add(index);
+            if (pendingIndexes.size() == BATCH_SIZE) {
+                insertBatch(employees, pendingIndexes, results, created);
+            }
+        }
+        insertBatch(employees, pendingIndexes, results, created);
+
+        eventPublisher.publishEvent(new EmployeesSavedEvent(created));
+        return List.of(results);
+    }
+
+    private RuntimeException translateDuplicateEmail(DataIntegrityViolationException e, String message) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_CONSTRAINT)) {
+                return new DuplicateResourceException(message, e);
+            }
+            cause = cause.getCause();
+        }
+        return e;
+    }
+
+    private void insertBatch(List<Employee> employees, List<Integer> indexes, EmployeeBatchResult[] results,
+                             List<EmployeeView> created) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        List<Employee> batch = indexes.stream().map(employees::get).toList();
+        // flush as one JDBC batch and drop the rows from the persistence context before the next one
+        try {
+            employeeRepository.saveAllAndFlush(batch);
+        } catch (DataIntegrityViolationException e) {
+            // an email was inserted concurrently after the pre-check; the whole request rolls back
+            throw translateDuplicateEmail(e, "An employee email in this batch was inserted concurrently");
+        }
+        entityManager.clear();
+
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = EmployeeBatchResult.created(indexes.get(i), batch.get(i).getId());
+            created.add(view(batch.get(i)));
+        }
+        indexes.clear();
+    }
+
+    // Read paths run in read-only transactions: Hibernate skips flushing and loads entities without
+    // dirty-checking snapshots, and list reads select views that never become managed at all.
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployees() {
+        return employeeRepository.findAllViews();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllEmployeeFields(List<String> fields) {
+        List<String> selectedFields = fields.stream().distinct().toList();
+        if (selectedFields.isEmpty()) {
+            throw new BadRequestException("At least one field is required");
+        }
+        for (String field : selectedFields) {
+            if (!EmployeeRepositoryCustom.SELECTABLE_FIELDS.contains(field)) {
+                throw new BadRequestException("Unknown employee field: " + field);
+            }
+        }
+
+        return employeeRepository.findAllFields(selectedFields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage<EmployeeView> getEmployeesPage(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // one extra row tells us whether there is a next page without a count query
+        List<EmployeeView> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, Limit.of(pageSize + 1));
+        if (employees.size() <= pageSize) {
+            return new EmployeePage<>(employees, null);
+        }
+
+        List<EmployeeView> content = employees.subList(0, pageSize);
+        return new EmployeePage<>(content, content.get(pageSize - 1).getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> searchEmployees(EmployeeSearchCriteria criteria) {
+        if (!EmployeeRepositoryCustom.SELECTABLE_FIELDS.contains(criteria.getSort())) {
+            throw new BadRequestException("Cannot sort by " + criteria.getSort());
+        }
+
+        return employeeRepository.search(EmployeeSearchCriteria.builder()
+                .firstName(criteria.getFirstName())
+                .lastName(criteria.getLastName())
+                .email(criteria.getEmail())
+                .sort(criteria.getSort())
+                .descending(criteria.isDescending())
+                .limit(Math.min(Math.max(criteria.getLimit(), 1), MAX_PAGE_SIZE))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEmployee(Consumer<EmployeeView> action) {
+        try (Stream<EmployeeView> employees = employeeRepository.streamAll()) {
+            employees.forEach(action);
+        }
     }
 
+    // Loads that fill the caches read from the primary. A replica row would be cached well past the replica's
+    // lag, for the writer too, since the cache answers before any routing; entity loads also fill Hibernate's
+    // second-level regions. Listings and searches, which are not cached, stay on the replicas.
+    // Cached by hand rather than with @Cacheable, so a load that a write overlapped is not cached, see cacheIfCurrent.
     @Override
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeById(Long id) {
-        return employeeRepository.findById(id);
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        Employee cached = cache == null ? null : cache.get(id, Employee.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = idFlights.generation();
+        Optional<Employee> loaded;
+        if (canCoalesce()) {
+            loaded = idFlights.load(id, () -> idBatcher != null
+                    ? idBatcher.submit(id)
+                    : CompletableFuture.completedFuture(
+                            ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findById(id))));
+        } else {
+            loaded = ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findById(id));
+        }
+        loaded.ifPresent(employee -> cacheIfCurrent(cache, idFlights, generation, id, employee));
+        return loaded;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Employee> getEmployeeByEmail(String email) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL);
+        Employee cached = cache == null ? null : cache.get(email, Employee.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = emailFlights.generation();
+        Optional<Employee> loaded;
+        if (canCoalesce()) {
+            loaded = emailFlights.load(email, () -> emailBatcher != null
+                    ? emailBatcher.submit(email)
+                    : CompletableFuture.completedFuture(
+                            ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findByEmail(email))));
+        } else {
+            loaded = ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findByEmail(email));
+        }
+        loaded.ifPresent(employee -> cacheIfCurrent(cache, emailFlights, generation, email, employee));
+        return loaded;
+    }
+
+    // Only a read in a read-only transaction may take another request's result: a read-write transaction may
+    // need to see its own uncommitted changes
+    private static boolean canCoalesce() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // A load that ran while a write committed may hold the row from before it, so it is only cached if the
+    // generation is unchanged. Checked again after the put: a write bumps the generation before it evicts (see
+    // invalidateLookups), so an entry put before the bump is removed by that eviction and a later one by this.
+    private static <K> void cacheIfCurrent(Cache cache, SingleFlight<K, ?> flights, long generation, K key,
+                                           Employee employee) {
+        if (cache == null || flights.generation() != generation) {
+            return;
+        }
+        cache.put(key, employee);
+        if (flights.generation() != generation) {
+            cache.evict(key);
+        }
+    }
+
+    // Write events arrive once the write has committed, every write path publishes them. The @CacheEvict on the
+    // write methods may run before the commit, while a reader can still load and cache the old row, so the loads
+    // in flight are dropped and the entries evicted again here. Renames and deletes do not say which emails
+    // they touched, hence the cleared email cache. The single-row writes leave Hibernate's second-level cache to
+    // this eviction too, see EmployeeRepository.updateById.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(EmployeesSavedEvent event) {
+        invalidateLookups(event.employees().stream().map(EmployeeView::getId).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRenamed(EmployeesRenamedEvent event) {
+        invalidateLookups(event.ids());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(EmployeesDeletedEvent event) {
+        invalidateLookups(event.ids());
+    }
+
+    private void invalidateLookups(List<Long> ids) {
+        idFlights.invalidate();
+        emailFlights.invalidate();
+        employeeRepository.evictFromSecondLevelCache(ids);
+        if (cacheManager == null) {
+            return;
+        }
+        Cache byId = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        if (byId != null) {
+            ids.forEach(byId::evict);
+        }
+        Cache byEmail = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL);
+        if (byEmail != null) {
+            byEmail.clear();
+        }
+    }
+
+    // The batch form of getEmployeeById and getEmployeeByEmail, sharing their caches: cached employees are served
+    // from there, the rest with chunked IN queries whose results are cached in turn
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeLookupResult lookupEmployees(EmployeeLookupRequest request) {
+        List<Long> ids = request.getIds() == null ? List.of() : request.getIds();
+        List<String> emails = request.getEmails() == null ? List.of() : request.getEmails();
+        if (ids.size() + emails.size() > MAX_LOOKUP_SIZE) {
+            throw new BadRequestException("A lookup takes at most " + MAX_LOOKUP_SIZE + " ids and emails");
+        }
+
+        Map<Long, Employee> byId = lookup(ids, CacheConfig.EMPLOYEES_BY_ID, idFlights, this::loadByIds);
+        Map<String, Employee> byEmail = lookup(emails, CacheConfig.EMPLOYEES_BY_EMAIL, emailFlights,
+                this::loadByEmails);
+        return new EmployeeLookupResult(
+                ids.stream().map(byId::get).toList(),
+                emails.stream().map(byEmail::get).toList(),
+                ids.stream().filter(id -> !byId.containsKey(id)).distinct().toList(),
+                emails.stream().filter(email -> !byEmail.containsKey(email)).distinct().toList());
+    }
+
+    private <K> Map<K, Employee> lookup(List<K> keys, String cacheName, SingleFlight<K, ?> flights,
+                                        Function<List<K>, Map<K, Employee>> loader) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(cacheName);
+        Map<K, Employee> found = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Employee cached = key == null || cache == null ? null : cache.get(key, Employee.class);
+            if (cached != null) {
+                found.put(key, cached);
+            } else if (key != null) {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // cached in turn, so read from the primary like getEmployeeById
+            long generation = flights.generation();
+            Map<K, Employee> loaded = ReplicaRoutingDataSource.onPrimary(() -> loader.apply(missing));
+            loaded.forEach((key, employee) -> cacheIfCurrent(cache, flights, generation, key, employee));
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    private Map<Long, Employee> loadByIds(List<Long> ids) {
+        Map<Long, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeRepository.loadAllById(ids, IN_CLAUSE_CHUNK_SIZE)) {
+            if (employee != null) {
+                employees.put(employee.getId(), employee);
+            }
+        }
+        return employees;
+    }
+
+    private Map<String, Employee> loadByEmails(List<String> emails) {
+        Map<String, Employee> employees = new HashMap<>();
+        for (int from = 0; from < emails.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, emails.size()));
+            employees.putAll(byRequestedEmail(chunk, employeeRepository.findByEmailIn(chunk)));
+        }
+        return employees;
+    }
+
+    // Keys the employees by the emails as requested: MySQL's default collation compares emails
+    // case-insensitively, so ME@angelcruzl.dev finds the row stored as me@angelcruzl.dev
+    private static Map<String, Employee> byRequestedEmail(List<String> requested, List<Employee> employees) {
+        Map<String, Employee> byStoredEmail = new HashMap<>();
+        employees.forEach(employee -> byStoredEmail.put(employee.getEmail().toLowerCase(Locale.ROOT), employee));
+        Map<String, Employee> byRequested = new HashMap<>();
+        for (String email : requested) {
+            Employee employee = byStoredEmail.get(email.toLowerCase(Locale.ROOT));
+            if (employee != null) {
+                byRequested.put(email, employee);
+            }
+        }
+        return byRequested;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#updatedEmployee.id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
     public Employee updateEmployee(Employee updatedEmployee) {
-        Optional<Employee> employee = employeeRepository.findById(updatedEmployee.getId());
-        if (employee.isEmpty()) {
+        // a single UPDATE; the affected row count doubles as the existence check, and with an expected
+        // version also as the lost-update check
+        Long expectedVersion = updatedEmployee.getVersion();
+        int updatedRows;
+        try {
+            updatedRows = expectedVersion == null
+                    ? employeeRepository.updateById(updatedEmployee.getId(), updatedEmployee.getFirstName(),
+                    updatedEmployee.getLastName(), updatedEmployee.getEmail())
+                    : employeeRepository.updateByIdAndVersion(updatedEmployee.getId(), expectedVersion,
+                    updatedEmployee.getFirstName(), updatedEmployee.getLastName(), updatedEmployee.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, "Employee with email " + updatedEmployee.getEmail() + " already exists");
+        }
+        if (updatedRows == 0) {
+            // only the failure path pays for telling a stale version from a missing row
+            if (expectedVersion != null && employeeRepository.existsById(updatedEmployee.getId())) {
+                throw new PreconditionFailedException("Employee with id " + updatedEmployee.getId()
+                        + " was modified since version " + expectedVersion);
+            }
             throw new ResourceNotFoundException("Employee with id " + updatedEmployee.getId() + " not found");
         }
+        // the new version is only known when the caller stated the current one
+        updatedEmployee.setVersion(expectedVersion == null ? null : expectedVersion + 1);
 
-        return employeeRepository.save(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeesSavedEvent(List.of(view(updatedEmployee))));
+        return updatedEmployee;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
     public void deleteEmployee(Long id) {
-        Optional<Employee> employee = employeeRepository.findById(id);
-        if (employee.isEmpty()) {
+        int deletedRows = employeeRepository.removeById(id);
+        if (deletedRows == 0) {
             throw new ResourceNotFoundException("Employee with id " + id + " not found");
         }
+        eventPublisher.publishEvent(new EmployeesDeletedEvent(List.of(id)));
+    }
+
+    // Not transactional: every chunk is its own transaction, its UPDATE/DELETE and outbox entries together, so an
+    // HR-sized change never holds locks on the whole set. A failure leaves earlier chunks applied, hence the evictions on both sides.
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public EmployeeBulkResult updateEmployees(EmployeeBulkRequest request) {
+        if (request.getFirstName() == null && request.getLastName() == null) {
+            throw new BadRequestException("A bulk update needs a firstName or lastName to set");
+        }
+
+        return new EmployeeBulkResult(forEachIdChunk(request, ids -> {
+            int updatedRows = employeeRepository.updateNamesByIds(ids, request.getFirstName(), request.getLastName());
+            eventPublisher.publishEvent(
+                    new EmployeesRenamedEvent(List.copyOf(ids), request.getFirstName(), request.getLastName()));
+            return updatedRows;
+        }));
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL, allEntries = true)
+    })
+    public EmployeeBulkResult deleteEmployees(EmployeeBulkRequest request) {
+        return new EmployeeBulkResult(forEachIdChunk(request, ids -> {
+            int deletedRows = employeeRepository.removeByIds(ids);
+            eventPublisher.publishEvent(new EmployeesDeletedEvent(List.copyOf(ids)));
+            return deletedRows;
+        }));
+    }
+
+    private long forEachIdChunk(EmployeeBulkRequest request, ToIntFunction<List<Long>> action) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        // an empty selection must not turn into "every employee"
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("A bulk request needs either ids or a non-empty filter");
+        }
+        // a blank domain would match every email
+        String emailDomain = hasFilter ? request.getFilter().getEmailDomain() : null;
+        if (emailDomain != null && emailDomain.isBlank()) {
+            throw new BadRequestException("The filter's emailDomain must not be blank");
+        }
+
+        long affected = 0;
+        if (hasIds) {
+            List<Long> ids = request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                affected += inTransaction(action, ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+            }
+            return affected;
+        }
+
+        // walk the matching ids in keyset order, so every chunk query starts where the previous one stopped
+        EmployeeFilter filter = request.getFilter();
+        long after = 0L;
+        List<Long> ids;
+        do {
+            ids = employeeRepository.findIdsByFilter(after, filter.getEmailDomain(), filter.getLastName(),
+                    Limit.of(IN_CLAUSE_CHUNK_SIZE));
+            if (!ids.isEmpty()) {
+                affected += inTransaction(action, ids);
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == IN_CLAUSE_CHUNK_SIZE);
+        return affected;
+    }
+
+    private int inTransaction(ToIntFunction<List<Long>> action, List<Long> ids) {
+        Integer affected = transactionOperations.execute(status -> action.applyAsInt(ids));
+        return affected == null ? 0 : affected;
+    }
 
-        employeeRepository.deleteById(id);
+    private static EmployeeView view(Employee employee) {
+        return new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
     }
 }
@@ -0,0 +1,280 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesRenamedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import dev.angelcruzl.springboot.testing.service.EmployeeSuggestionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+// Type-ahead index held in memory: every word of firstName, lastName and email is stored as a sorted
+// "token\0id" key, so a prefix lookup is a range scan over the skip list instead of a LIKE '%x%' table scan.
+// Built at startup and kept current by the write events EmployeeServiceImpl publishes after commit; while it
+// is building, or once the table outgrows max-employees, suggestions fall back to the indexed DB prefix search.
+@Service
+public class EmployeeSuggestionServiceImpl implements EmployeeSuggestionService {
+
+    public static final int MAX_SUGGESTIONS = 50;
+
+    // stored tokens are cut to this length, longer query words are verified against the full values
+    static final int MAX_TOKEN_LENGTH = 16;
+
+    // bounds the work of short queries whose extra words reject most candidates
+    static final int MAX_SCANNED_KEYS = 10_000;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final char KEY_SEPARATOR = '\0';
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Value("${employee.suggest.max-employees:250000}")
+    private int maxEmployees;
+
+    private final Map<Long, EmployeeView> employees = new ConcurrentHashMap<>();
+
+    private final NavigableSet<String> keys = new ConcurrentSkipListSet<>();
+
+    private final Set<Long> deletedWhileBuilding = ConcurrentHashMap.newKeySet();
+
+    // renames of ids the scan may not have reached yet; the scanned row predates them
+    private final Map<Long, Rename> renamedWhileBuilding = new ConcurrentHashMap<>();
+
+    private volatile boolean building;
+
+    private volatile boolean available;
+
+    @Override
+    public List<EmployeeView> suggest(String query, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        if (!available) {
+            return searchDatabase(query, words, size);
+        }
+
+        // scan the longest word, the most selective one, and check the others on each candidate
+        String scanned = words.stream().reduce((a, b) -> b.length() > a.length() ? b : a).orElseThrow();
+        String from = truncate(scanned);
+        Set<Long> matches = new LinkedHashSet<>();
+        int scannedKeys = 0;
+        for (String key : keys.subSet(from, true, from + Character.MAX_VALUE, false)) {
+            if (matches.size() == size || ++scannedKeys > MAX_SCANNED_KEYS) {
+                break;
+            }
+            Long id = Long.valueOf(key.substring(key.indexOf(KEY_SEPARATOR) + 1));
+            EmployeeView employee = employees.get(id);
+            if (employee != null && !matches.contains(id) && matchesAll(employee, words)) {
+                matches.add(id);
+            }
+        }
+
+        List<EmployeeView> suggestions = new ArrayList<>(matches.size());
+        for (Long id : matches) {
+            EmployeeView employee = employees.get(id);
+            if (employee != null) {
+                suggestions.add(employee);
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        available = false;
+        building = true;
+        boolean complete = false;
+        try {
+            employees.clear();
+            keys.clear();
+            deletedWhileBuilding.clear();
+            renamedWhileBuilding.clear();
+            employeeService.forEachEmployee(employee -> {
+                // a write event that arrived during the scan carries newer values than the scanned row
+                if (!deletedWhileBuilding.contains(employee.getId())) {
+                    employees.computeIfAbsent(employee.getId(), id -> {
+                        Rename rename = renamedWhileBuilding.get(id);
+                        EmployeeView indexed = rename == null ? employee : rename.applyTo(employee);
+                        addKeys(indexed);
+                        return indexed;
+                    });
+                }
+                // stop reading as soon as the index would outgrow its bound
+                if (employees.size() > maxEmployees) {
+                    throw new IndexFullException();
+                }
+            });
+            complete = true;
+        } catch (IndexFullException e) {
+            // the table outgrew max-employees; suggestions keep coming from the database
+        } finally {
+            if (!complete) {
+                employees.clear();
+                keys.clear();
+            }
+            available = complete;
+            building = false;
+            deletedWhileBuilding.clear();
+            renamedWhileBuilding.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(EmployeesSavedEvent event) {
+        event.employees().forEach(this::put);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRenamed(EmployeesRenamedEvent event) {
+        Rename rename = new Rename(event.firstName(), event.lastName());
+        for (Long id : event.ids()) {
+            if (building) {
+                renamedWhileBuilding.merge(id, rename, Rename::then);
+            }
+            EmployeeView current = employees.get(id);
+            if (current != null) {
+                put(rename.applyTo(current));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(EmployeesDeletedEvent event) {
+        for (Long id : event.ids()) {
+            if (building) {
+                deletedWhileBuilding.add(id);
+            }
+            employees.computeIfPresent(id, (key, current) -> {
+                removeKeys(current);
+                return null;
+            });
+        }
+    }
+
+    private void put(EmployeeView employee) {
+        if (!available && !building) {
+            // there is no index to keep current
+            return;
+        }
+        // while building the scan enforces the bound, it also sees employees added here
+        if (!building && !employees.containsKey(employee.getId()) && employees.size() >= maxEmployees) {
+            // the index would no longer be complete; serve from the database until a rebuild
+            available = false;
+            employees.clear();
+            keys.clear();
+            return;
+        }
+
+        // compute() serialises writers of the same id, so old and new keys never interleave
+        employees.compute(employee.getId(), (id, current) -> {
+            if (current != null) {
+                removeKeys(current);
+            }
+            addKeys(employee);
+            return employee;
+        });
+    }
+
+    private void addKeys(EmployeeView employee) {
+        for (String word : words(employee)) {
+            keys.add(truncate(word) + KEY_SEPARATOR + employee.getId());
+        }
+    }
+
+    private void removeKeys(EmployeeView employee) {
+        for (String word : words(employee)) {
+            keys.remove(truncate(word) + KEY_SEPARATOR + employee.getId());
+        }
+    }
+
+    private boolean matchesAll(EmployeeView employee, List<String> queryWords) {
+        List<String> employeeWords = words(employee);
+        for (String queryWord : queryWords) {
+            if (employeeWords.stream().noneMatch(word -> word.startsWith(queryWord))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<EmployeeView> searchDatabase(String query, List<String> words, int size) {
+        EmployeeSearchCriteria.EmployeeSearchCriteriaBuilder criteria = EmployeeSearchCriteria.builder().limit(size);
+        if (query.contains("@")) {
+            criteria.email(query.trim()).sort("email");
+        } else {
+            // words are lower case; capitalising keeps the usual spelling matching on case-sensitive collations
+            String word = words.get(0);
+            criteria.lastName(Character.toUpperCase(word.charAt(0)) + word.substring(1)).sort("lastName");
+        }
+        return employeeService.searchEmployees(criteria.build());
+    }
+
+    private static List<String> words(EmployeeView employee) {
+        List<String> words = new ArrayList<>();
+        words.addAll(words(employee.getFirstName()));
+        words.addAll(words(employee.getLastName()));
+        words.addAll(words(employee.getEmail()));
+        return words;
+    }
+
+    private static List<String> words(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(value.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String truncate(String word) {
+        return word.length() > MAX_TOKEN_LENGTH ? word.substring(0, MAX_TOKEN_LENGTH) : word;
+    }
+
+    // null names are left as they are, like the bulk update that published the rename
+    private record Rename(String firstName, String lastName) {
+        Rename then(Rename later) {
+            return new Rename(later.firstName == null ? firstName : later.firstName,
+                    later.lastName == null ? lastName : later.lastName);
+        }
+
+        EmployeeView applyTo(EmployeeView employee) {
+            return new EmployeeView(employee.getId(),
+                    firstName == null ? employee.getFirstName() : firstName,
+                    lastName == null ? employee.getLastName() : lastName,
+                    employee.getEmail());
+        }
+    }
+
+    // ends the scan early; thrown through forEachEmployee, which closes the cursor
+    private static class IndexFullException extends RuntimeException {
+        IndexFullException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.model.Employee;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Append-only NDJSON journal of the write-behind queue. A line is either an accepted employee or the tracking
+// ids of employees the writer is done with; what is accepted and not done is replayed after a restart.
+class EmployeeWriteBehindLog implements Closeable {
+
+    // once nothing is outstanding and the file is larger than this, it starts over
+    static final long TRUNCATE_ABOVE_BYTES = 64L * 1024 * 1024;
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean fsync;
+
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+
+    private long outstanding;
+
+    // bytes appended since opening, including truncated ones, so positions only grow
+    private volatile long written;
+
+    private long synced;
+
+    EmployeeWriteBehindLog(Path file, ObjectMapper objectMapper, boolean fsync) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+    }
+
+    // Reads what an earlier run left behind and rewrites the file with only the employees still outstanding,
+    // in the order they were accepted
+    synchronized Map<String, Employee> recover() throws IOException {
+        Map<String, Employee> pending = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    Entry entry;
+                    try {
+                        entry = objectMapper.readValue(line, Entry.class);
+                    } catch (JsonProcessingException e) {
+                        // a line torn by a crash was never acknowledged
+                        continue;
+                    }
+                    if (entry.done() != null) {
+                        entry.done().forEach(pending::remove);
+                    } else if (entry.trackingId() != null) {
+                        pending.put(entry.trackingId(), entry.employee());
+                    }
+                }
+            }
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted)) {
+            for (Map.Entry<String, Employee> employee : pending.entrySet()) {
+                writer.write(objectMapper.writeValueAsString(new Entry(employee.getKey(), employee.getValue(), null)));
+                writer.newLine();
+            }
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (fsync) {
+            channel.force(true);
+        }
+        outstanding = pending.size();
+        return pending;
+    }
+
+    // Returns once the entry is on disk. Appends share fsyncs: whoever forces the file covers every entry
+    // written before it, so concurrent producers wait for one fsync rather than queueing for one each.
+    void append(String trackingId, Employee employee) throws IOException {
+        byte[] line = line(new Entry(trackingId, employee, null));
+        long position;
+        synchronized (this) {
+            position = write(line);
+            outstanding++;
+        }
+        if (fsync) {
+            sync(position);
+        }
+    }
+
+    // Not forced: a done marker lost in a crash replays employees that were already written, and saveEmployees
+    // reports those as duplicates
+    synchronized void done(List<String> trackingIds) throws IOException {
+        write(line(new Entry(null, null, trackingIds)));
+        outstanding -= trackingIds.size();
+        if (outstanding == 0 && channel.size() > TRUNCATE_ABOVE_BYTES) {
+            channel.truncate(0);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private long write(byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        written += line.length;
+        return written;
+    }
+
+    private void sync(long position) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            long target = written;
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    private byte[] line(Entry entry) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(entry);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String trackingId, Employee employee, List<String> done) {
+    }
+}
@@ -0,0 +1,282 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeWriteStatus;
+import dev.angelcruzl.springboot.testing.exception.BadRequestException;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.TooManyRequestsException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import dev.angelcruzl.springboot.testing.service.EmployeeWriteBehindService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Accepted employees are journaled before the 202, so a crash replays them on the next start. One writer thread
+// drains the queue through saveEmployees, taking whatever has accumulated up to BATCH_SIZE per transaction:
+// under load each commit carries hundreds of employees instead of one.
+@Service
+public class EmployeeWriteBehindServiceImpl implements EmployeeWriteBehindService {
+
+    public static final int BATCH_SIZE = EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE;
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.write-behind.enabled:false}")
+    private boolean enabled;
+
+    // accepted employees not yet written; beyond it enqueue answers 429
+    @Value("${employee.write-behind.capacity:10000}")
+    private int capacity;
+
+    // no default: accepted employees must survive a reboot, which a temp directory may not
+    @Value("${employee.write-behind.log:#{null}}")
+    private Path logFile;
+
+    // off trades the last accepted employees before a power loss for throughput; a process crash loses nothing
+    @Value("${employee.write-behind.fsync:true}")
+    private boolean fsync;
+
+    private final BlockingQueue<PendingEmployee> queue = new LinkedBlockingQueue<>();
+
+    // queued plus the batch being written
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // a status evicted early only makes its tracking id answer 404, the employee is still written
+    private final Cache<String, EmployeeWriteStatus> statuses = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(1_000_000)
+            .build();
+
+    private EmployeeWriteBehindLog log;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException {
+        if (!enabled || running) {
+            return;
+        }
+        if (logFile == null) {
+            throw new IllegalStateException("employee.write-behind.log must be set when write-behind is enabled");
+        }
+        log = new EmployeeWriteBehindLog(logFile, objectMapper, fsync);
+        Map<String, Employee> recovered = log.recover();
+        // may exceed capacity; new employees are turned away until the backlog drains
+        inFlight.addAndGet(recovered.size());
+        recovered.forEach((trackingId, employee) -> {
+            statuses.put(trackingId, EmployeeWriteStatus.pending(trackingId));
+            queue.add(new PendingEmployee(trackingId, employee));
+        });
+
+        running = true;
+        writer = new Thread(this::drain, "employee-write-behind");
+        writer.start();
+    }
+
+    // Writes what is queued before the database goes away; whatever is left stays in the log
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException, IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        writer.interrupt();
+        writer.join();
+        log.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public EmployeeWriteStatus enqueue(Employee employee) {
+        String reason = EmployeeImportServiceImpl.validate(employee);
+        if (reason != null) {
+            throw new BadRequestException(reason);
+        }
+        if (inFlight.incrementAndGet() > capacity) {
+            inFlight.decrementAndGet();
+            throw new TooManyRequestsException("Write-behind queue is full, retry later");
+        }
+
+        // ids and versions are always assigned by the database
+        employee.setId(null);
+        employee.setVersion(null);
+        String trackingId = UUID.randomUUID().toString();
+        try {
+            log.append(trackingId, employee);
+        } catch (IOException e) {
+            inFlight.decrementAndGet();
+            throw new UncheckedIOException(e);
+        }
+
+        EmployeeWriteStatus status = EmployeeWriteStatus.pending(trackingId);
+        statuses.put(trackingId, status);
+        queue.add(new PendingEmployee(trackingId, employee));
+        return status;
+    }
+
+    @Override
+    public Optional<EmployeeWriteStatus> getStatus(String trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    private void drain() {
+        List<PendingEmployee> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingEmployee first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            }
+        } catch (InterruptedException e) {
+            // stopping with the database unreachable; the log replays the rest
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Retries while the failure is transient, so an unreachable database stalls the queue rather than dropping
+    // it. Any other failure is narrowed down one employee at a time and fails only the employee that causes it,
+    // so one poison row cannot hold up the queue.
+    private void write(List<PendingEmployee> batch) throws InterruptedException {
+        boolean oneByOne = false;
+        boolean duplicateRetried = false;
+        for (int attempt = 0; !batch.isEmpty(); attempt++) {
+            try {
+                if (oneByOne) {
+                    writeOneByOne(batch);
+                } else {
+                    resolve(batch, save(batch));
+                    batch.clear();
+                }
+            } catch (DuplicateResourceException e) {
+                // another writer inserted one of these emails after the pre-check, and a second pass sees it. A
+                // duplicate the pre-check misses again is isolated instead of retried forever.
+                oneByOne = duplicateRetried;
+                duplicateRetried = true;
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    Thread.sleep(Math.min(MAX_BACKOFF_MS, 100L << Math.min(attempt, 16)));
+                } else {
+                    oneByOne = true;
+                }
+            }
+        }
+    }
+
+    // resolved employees leave the batch as it goes; a transient failure leaves the rest for the next attempt
+    private void writeOneByOne(List<PendingEmployee> batch) {
+        for (Iterator<PendingEmployee> iterator = batch.iterator(); iterator.hasNext(); ) {
+            List<PendingEmployee> single = List.of(iterator.next());
+            String trackingId = single.get(0).trackingId();
+            try {
+                resolve(single, save(single));
+            } catch (DuplicateResourceException e) {
+                // alone in its transaction, only this employee's email can have hit the unique index
+                statuses.put(trackingId, EmployeeWriteStatus.duplicate(trackingId, e.getMessage()));
+                done(single);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                statuses.put(trackingId, EmployeeWriteStatus.failed(trackingId,
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                done(single);
+            }
+            iterator.remove();
+        }
+    }
+
+    // The database is unreachable, or the same statement may succeed later (deadlock, lock or query timeout).
+    // Resource failures include CannotGetJdbcConnectionException and JPA's translation of a dropped connection;
+    // the pool failing to hand out a connection for the transaction surfaces as CannotCreateTransactionException.
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private List<EmployeeBatchResult> save(List<PendingEmployee> batch) {
+        List<Employee> employees = batch.stream().map(PendingEmployee::employee).toList();
+        try {
+            return employeeService.saveEmployees(employees);
+        } catch (RuntimeException e) {
+            // the rolled back flush left generated ids and versions on the entities
+            employees.forEach(employee -> {
+                employee.setId(null);
+                employee.setVersion(null);
+            });
+            throw e;
+        }
+    }
+
+    private void resolve(List<PendingEmployee> batch, List<EmployeeBatchResult> results) {
+        for (int i = 0; i < batch.size(); i++) {
+            String trackingId = batch.get(i).trackingId();
+            EmployeeBatchResult result = results.get(i);
+            statuses.put(trackingId, switch (result.getStatus()) {
+                case CREATED -> EmployeeWriteStatus.created(trackingId, result.getId());
+                case DUPLICATE -> EmployeeWriteStatus.duplicate(trackingId, result.getMessage());
+                case INVALID -> EmployeeWriteStatus.failed(trackingId, result.getMessage());
+            });
+        }
+        done(batch);
+    }
+
+    private void done(List<PendingEmployee> batch) {
+        inFlight.addAndGet(-batch.size());
+        try {
+            log.done(batch.stream().map(PendingEmployee::trackingId).toList());
+        } catch (IOException e) {
+            // replaying these after a restart only reports them as duplicates
+        }
+    }
+
+    private record PendingEmployee(String trackingId, Employee employee) {
+    }
+}
@@ -0,0 +1,108 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Collects keys for up to window after the first one and loads them all with one bulk call, sooner once
+// maxBatchSize keys are waiting. Loads run one at a time on the batcher's thread, so keys arriving during a
+// load gather into the next batch.
+class MicroBatcher<K, V> implements AutoCloseable {
+
+    private final Function<List<K>, Map<K, V>> bulkLoader;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder batched = new LongAdder();
+
+    private Batch pending;
+
+    MicroBatcher(String name, Function<List<K>, Map<K, V>> bulkLoader, Duration window, int maxBatchSize) {
+        this.bulkLoader = bulkLoader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    synchronized CompletableFuture<Optional<V>> submit(K key) {
+        if (pending == null) {
+            Batch batch = new Batch();
+            pending = batch;
+            executor.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+        }
+
+        CompletableFuture<Optional<V>> result = pending.results.computeIfAbsent(key, k -> new CompletableFuture<>());
+        if (pending.results.size() >= maxBatchSize) {
+            Batch batch = pending;
+            pending = null;
+            executor.execute(() -> flush(batch));
+        }
+        return result;
+    }
+
+    // bulk loads issued, and the keys they resolved
+    long batches() {
+        return batches.sum();
+    }
+
+    long batched() {
+        return batched.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        executor.shutdownNow();
+        if (pending != null) {
+            pending.results.values()
+                    .forEach(result -> result.completeExceptionally(new IllegalStateException("Shutting down")));
+            pending = null;
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            // a batch that filled up is flushed early, its timer finds it done
+            if (batch.flushed) {
+                return;
+            }
+            batch.flushed = true;
+            if (pending == batch) {
+                pending = null;
+            }
+        }
+
+        batches.increment();
+        batched.add(batch.results.size());
+        try {
+            Map<K, V> loaded = bulkLoader.apply(new ArrayList<>(batch.results.keySet()));
+            batch.results.forEach((key, result) -> result.complete(Optional.ofNullable(loaded.get(key))));
+        } catch (RuntimeException e) {
+            batch.results.values().forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private class Batch {
+        private final Map<K, CompletableFuture<Optional<V>>> results = new LinkedHashMap<>();
+
+        private boolean flushed;
+    }
+}
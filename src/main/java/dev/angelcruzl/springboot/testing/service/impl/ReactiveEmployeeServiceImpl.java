@@ -0,0 +1,167 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import dev.angelcruzl.springboot.testing.config.CacheConfig;
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import dev.angelcruzl.springboot.testing.repository.ReactiveEmployeeIdAllocator;
+import dev.angelcruzl.springboot.testing.repository.ReactiveEmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.ReactiveEmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveEmployeeIdAllocator idAllocator;
+
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    // shared with the v1 stack, whose cached reads must not outlive v2 writes
+    @Autowired
+    private CacheManager cacheManager;
+
+    // R2DBC writes bypass Hibernate, so its second-level and query cache are evicted by hand
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // keeps the in-memory suggestion index in step with v2 writes
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Mono<ReactiveEmployee> saveEmployee(ReactiveEmployee employee) {
+        return idAllocator.nextId()
+                .flatMap(id -> {
+                    employee.setId(id);
+                    // insert() rather than save(): an entity with an id would otherwise be treated as an update
+                    return entityTemplate.insert(employee);
+                })
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> translateDuplicateEmail(e, "Employee with email " + employee.getEmail() + " already exists"))
+                .doOnSuccess(saved -> {
+                    evict(CacheConfig.EMPLOYEES_BY_ID, saved.getId());
+                    evict(CacheConfig.EMPLOYEES_BY_EMAIL, saved.getEmail());
+                    evictSecondLevelCache(null);
+                    eventPublisher.publishEvent(new EmployeesSavedEvent(List.of(view(saved))));
+                });
+    }
+
+    @Override
+    public Flux<ReactiveEmployee> getAllEmployees() {
+        return employeeRepository.findAllByOrderByIdAsc();
+    }
+
+    @Override
+    public Mono<EmployeePage<ReactiveEmployee>> getEmployeesPage(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), EmployeeServiceImpl.MAX_PAGE_SIZE);
+
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, PageRequest.ofSize(pageSize + 1))
+                .collectList()
+                .map(employees -> {
+                    if (employees.size() <= pageSize) {
+                        return new EmployeePage<>(employees, null);
+                    }
+
+                    List<ReactiveEmployee> content = employees.subList(0, pageSize);
+                    return new EmployeePage<>(content, content.get(pageSize - 1).getId());
+                });
+    }
+
+    @Override
+    public Mono<ReactiveEmployee> getEmployeeById(Long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<ReactiveEmployee> getEmployeeByEmail(String email) {
+        return employeeRepository.findByEmail(email);
+    }
+
+    @Override
+    public Mono<ReactiveEmployee> updateEmployee(ReactiveEmployee updatedEmployee) {
+        return employeeRepository.updateById(updatedEmployee.getId(), updatedEmployee.getFirstName(),
+                        updatedEmployee.getLastName(), updatedEmployee.getEmail())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> translateDuplicateEmail(e, "Employee with email " + updatedEmployee.getEmail() + " already exists"))
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? Mono.error(new ResourceNotFoundException("Employee with id " + updatedEmployee.getId() + " not found"))
+                        : Mono.just(updatedEmployee))
+                .doOnSuccess(employee -> {
+                    evict(CacheConfig.EMPLOYEES_BY_ID, employee.getId());
+                    clear(CacheConfig.EMPLOYEES_BY_EMAIL);
+                    evictSecondLevelCache(employee.getId());
+                    eventPublisher.publishEvent(new EmployeesSavedEvent(List.of(view(employee))));
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(Long id) {
+        return employeeRepository.removeById(id)
+                .flatMap(deletedRows -> deletedRows == 0
+                        ? Mono.<Void>error(new ResourceNotFoundException("Employee with id " + id + " not found"))
+                        : Mono.<Void>empty())
+                .doOnSuccess(ignored -> {
+                    evict(CacheConfig.EMPLOYEES_BY_ID, id);
+                    clear(CacheConfig.EMPLOYEES_BY_EMAIL);
+                    evictSecondLevelCache(id);
+                    eventPublisher.publishEvent(new EmployeesDeletedEvent(List.of(id)));
+                });
+    }
+
+    private Throwable translateDuplicateEmail(DataIntegrityViolationException e, String message) {
+        String detail = e.getMessage() == null ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        return detail.contains(Employee.EMAIL_CONSTRAINT) ? new DuplicateResourceException(message, e) : e;
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    // an insert only needs the query region gone, cached lookups may hold "no such email"
+    private void evictSecondLevelCache(Long id) {
+        if (id != null) {
+            entityManagerFactory.getCache().evict(Employee.class, id);
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static EmployeeView view(ReactiveEmployee employee) {
+        return new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+    }
+}
@@ -0,0 +1,73 @@
+package dev.angelcruzl.springboot.testing.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Concurrent loads of the same key share one: the first caller starts it, callers arriving while it runs wait for
+// its result. The key is released before the result is handed out, so a later caller always starts a fresh load.
+class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    // bumped by invalidate(), so a caller can tell a write committed while its load ran
+    private final AtomicLong generation = new AtomicLong();
+
+    V load(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        try {
+            loader.get().whenComplete((value, failure) -> {
+                inFlight.remove(key, flight);
+                if (failure != null) {
+                    flight.completeExceptionally(failure);
+                } else {
+                    flight.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return join(flight);
+    }
+
+    // Called once a write has committed: later callers start a fresh load instead of joining one that may have read
+    // the row before the write. The flights are dropped before the bump, so a caller that still joined one of them
+    // sees the generation change.
+    void invalidate() {
+        inFlight.clear();
+        generation.incrementAndGet();
+    }
+
+    long generation() {
+        return generation.get();
+    }
+
+    // callers that got another caller's result instead of loading
+    long coalesced() {
+        return coalesced.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
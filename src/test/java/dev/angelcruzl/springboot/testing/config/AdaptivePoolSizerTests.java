@@ -0,0 +1,89 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+public class AdaptivePoolSizerTests {
+
+    private HikariPoolMXBean pool;
+
+    private HikariConfigMXBean config;
+
+    private AdaptivePoolSizer sizer;
+
+    private int maximumPoolSize = 10;
+
+    @BeforeEach
+    public void setUp() {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        pool = mock(HikariPoolMXBean.class);
+        config = mock(HikariConfigMXBean.class);
+        given(dataSource.getMaximumPoolSize()).willReturn(maximumPoolSize);
+        given(dataSource.getHikariPoolMXBean()).willReturn(pool);
+        given(dataSource.getHikariConfigMXBean()).willReturn(config);
+        given(config.getMaximumPoolSize()).willAnswer(invocation -> maximumPoolSize);
+        willAnswer(invocation -> maximumPoolSize = invocation.getArgument(0))
+                .given(config).setMaximumPoolSize(anyInt());
+
+        sizer = new AdaptivePoolSizer(dataSource, 14, 2, 3);
+    }
+
+    @DisplayName("JUnit test for growing a full pool while threads wait, up to the ceiling")
+    @Test
+    public void givenWaitingThreads_whenResize_thenGrowUpToCeiling() {
+        // given - precondition or setup
+        given(pool.getThreadsAwaitingConnection()).willReturn(5);
+        given(pool.getTotalConnections()).willAnswer(invocation -> maximumPoolSize);
+
+        // when - action or the behaviour that we are going test
+        for (int i = 0; i < 4; i++) {
+            sizer.resize();
+        }
+
+        // then - verify the output
+        verify(config).setMaximumPoolSize(12);
+        verify(config).setMaximumPoolSize(14);
+        verify(config, times(2)).setMaximumPoolSize(anyInt());
+    }
+
+    @DisplayName("JUnit test for not growing a pool that can still open connections")
+    @Test
+    public void givenWaitingThreadsBelowMaximum_whenResize_thenKeepSize() {
+        // given - precondition or setup
+        given(pool.getThreadsAwaitingConnection()).willReturn(1);
+        given(pool.getTotalConnections()).willReturn(6);
+
+        // when - action or the behaviour that we are going test
+        sizer.resize();
+
+        // then - verify the output
+        verify(config, never()).setMaximumPoolSize(anyInt());
+    }
+
+    @DisplayName("JUnit test for shrinking a grown pool after consecutive quiet checks")
+    @Test
+    public void givenQuietPool_whenResize_thenShrinkBackToFloor() {
+        // given - precondition or setup
+        maximumPoolSize = 14;
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+        given(pool.getActiveConnections()).willReturn(2);
+
+        // when - action or the behaviour that we are going test
+        for (int i = 0; i < 12; i++) {
+            sizer.resize();
+        }
+
+        // then - verify the output
+        verify(config).setMaximumPoolSize(12);
+        verify(config).setMaximumPoolSize(10);
+        verify(config, times(2)).setMaximumPoolSize(anyInt());
+    }
+}
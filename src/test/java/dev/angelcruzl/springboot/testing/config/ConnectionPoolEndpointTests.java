@@ -0,0 +1,93 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.angelcruzl.springboot.testing.dto.ConnectionPoolStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionPoolEndpointTests {
+
+    private HikariDataSource primary;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private ConnectionPoolEndpoint endpoint;
+
+    @BeforeEach
+    public void setUp() {
+        primary = pool("primary");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", pool("replica-0"));
+        replicas.put("replica-1", pool("replica-1"));
+        lagMonitor = new ReplicaLagMonitor(replicas, connection -> Duration.ZERO, Duration.ofSeconds(5)) {
+            @Override
+            public boolean isServing(String key) {
+                return "replica-0".equals(key);
+            }
+        };
+        endpoint = new ConnectionPoolEndpoint(primary, lagMonitor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        primary.close();
+        lagMonitor.close();
+    }
+
+    @DisplayName("JUnit test for reporting connection counts of the primary and replica pools")
+    @Test
+    public void givenBorrowedConnection_whenPools_thenReportActive() throws Exception {
+        // given - precondition or setup
+        try (Connection ignored = primary.getConnection()) {
+
+            // when - action or the behaviour that we are going test
+            Map<String, ConnectionPoolStatus> pools = endpoint.pools();
+
+            // then - verify the output
+            assertThat(pools).containsOnlyKeys("primary", "replica-0", "replica-1");
+            ConnectionPoolStatus status = pools.get("primary");
+            assertThat(status.getActive()).isEqualTo(1);
+            // HikariCP tops up idle connections in the background
+            assertThat(status.getTotal()).isEqualTo(status.getActive() + status.getIdle());
+            assertThat(status.getMinimumIdle()).isEqualTo(2);
+            assertThat(status.getWaiting()).isZero();
+            assertThat(status.getMaximumPoolSize()).isEqualTo(4);
+            assertThat(status.isServing()).isTrue();
+        }
+    }
+
+    @DisplayName("JUnit test for reporting replicas out of rotation and pools not yet started")
+    @Test
+    public void givenLaggingReplica_whenPools_thenReportNotServing() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going test
+        Map<String, ConnectionPoolStatus> pools = endpoint.pools();
+
+        // then - verify the output
+        assertThat(pools.get("replica-0").isServing()).isTrue();
+        assertThat(pools.get("replica-1").isServing()).isFalse();
+        assertThat(pools.get("replica-1").getTotal()).isZero();
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID());
+        dataSource.setUsername("sa");
+        dataSource.setMinimumIdle(2);
+        dataSource.setMaximumPoolSize(4);
+        return dataSource;
+    }
+}
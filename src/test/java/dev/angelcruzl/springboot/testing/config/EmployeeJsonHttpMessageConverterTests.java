@@ -0,0 +1,82 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeJsonHttpMessageConverterTests {
+
+    private ObjectMapper objectMapper;
+
+    private EmployeeJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        converter = new EmployeeJsonHttpMessageConverter(objectMapper.getFactory(), 100);
+    }
+
+    @DisplayName("JUnit test for writing the same JSON as Jackson")
+    @Test
+    public void givenEmployees_whenWrite_thenSameBytesAsObjectMapper() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Ángel \"El Tigre\"")
+                .lastName("Cruz\n\u0001")
+                .email("me@angelcruzl.dev")
+                .version(3L)
+                .build();
+        Employee unsaved = Employee.builder()
+                .firstName("John")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        MockHttpOutputMessage cached = write(employee);
+        MockHttpOutputMessage direct = write(unsaved);
+
+        // then - verify the output
+        assertThat(cached.getBodyAsBytes()).isEqualTo(objectMapper.writeValueAsBytes(employee));
+        assertThat(direct.getBodyAsBytes()).isEqualTo(objectMapper.writeValueAsBytes(unsaved));
+        assertThat(cached.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(converter.canRead(Employee.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @DisplayName("JUnit test for serving an employee's encoded bytes until its version changes")
+    @Test
+    public void givenEncodedEmployee_whenWriteAgain_thenReuseBytesUntilVersionChanges() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(0L)
+                .build();
+        write(employee);
+
+        // when - action or the behaviour that we are going test
+        write(employee);
+        employee.setFirstName("Miguel");
+        employee.setVersion(1L);
+        MockHttpOutputMessage updated = write(employee);
+
+        // then - verify the output
+        assertThat(converter.getEncoded().stats().hitCount()).isEqualTo(1L);
+        assertThat(converter.getEncoded().stats().missCount()).isEqualTo(2L);
+        assertThat(updated.getBodyAsString()).contains("\"firstName\":\"Miguel\"", "\"version\":1");
+    }
+
+    private MockHttpOutputMessage write(Employee employee) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(employee, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
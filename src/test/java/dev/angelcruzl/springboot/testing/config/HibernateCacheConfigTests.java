@@ -0,0 +1,53 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// The benchmarks switch both caches off this way for their uncached baseline
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class HibernateCacheConfigTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for second-level cache switched off through spring.jpa.properties")
+    @Test
+    public void givenCacheSwitchedOff_whenFindById_thenEmployeeNotCached() {
+        // given - precondition or setup
+        Employee employee = employeeRepository.save(Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+
+        // when - action or the behaviour that we are going test
+        employeeRepository.findById(employee.getId());
+
+        // then - verify the output
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ReadYourWritesFilterTests {
+
+    private ReadYourWritesFilter filter;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    public void setUp() {
+        filter = new ReadYourWritesFilter(Duration.ofSeconds(5), Set.of("/api/v1/employees/lookup"));
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(Map.of(), connection -> Duration.ZERO, Duration.ofSeconds(5)) {
+            @Override
+            public String nextReplica() {
+                return "replica-0";
+            }
+        };
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), Map.of("replica-0", mock(DataSource.class)), lagMonitor);
+        // routing is decided for a read-only transaction throughout
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @DisplayName("JUnit test for a write request pinning itself and its client to the primary")
+    @Test
+    public void givenWriteRequest_whenFilter_thenSetCookieAndReadFromPrimary() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/employees/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object[] routedTo = new Object[1];
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, response, (req, res) -> routedTo[0] = routing.determineCurrentLookupKey());
+
+        // then - verify the output
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+        assertThat(routedTo[0]).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @DisplayName("JUnit test for a POST that only reads")
+    @Test
+    public void givenLookupRequest_whenFilter_thenReadFromReplicaWithoutCookie() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/employees/lookup");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object[] routedTo = new Object[1];
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, response, (req, res) -> routedTo[0] = routing.determineCurrentLookupKey());
+
+        // then - verify the output
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+        assertThat(routedTo[0]).isEqualTo("replica-0");
+    }
+
+    @DisplayName("JUnit test for reads with and without a current read-your-writes cookie")
+    @Test
+    public void givenReadRequests_whenFilter_thenOnlyRecentWritersReadFromPrimary() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest recentWriter = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+        recentWriter.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                String.valueOf(System.currentTimeMillis() + 2000)));
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                String.valueOf(System.currentTimeMillis() - 1)));
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+        forged.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+        Object[] routedTo = new Object[3];
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(recentWriter, new MockHttpServletResponse(),
+                (req, res) -> routedTo[0] = routing.determineCurrentLookupKey());
+        filter.doFilter(expired, new MockHttpServletResponse(),
+                (req, res) -> routedTo[1] = routing.determineCurrentLookupKey());
+        filter.doFilter(forged, new MockHttpServletResponse(),
+                (req, res) -> routedTo[2] = routing.determineCurrentLookupKey());
+
+        // then - verify the output
+        assertThat(routedTo[0]).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routedTo[1]).isEqualTo("replica-0");
+        assertThat(routedTo[2]).isEqualTo("replica-0");
+    }
+}
@@ -0,0 +1,140 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Three H2 databases stand in for the primary and two replicas; each answers with its own name
+public class ReplicaRoutingDataSourceTests {
+
+    private final Map<String, Duration> lags = new HashMap<>();
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", database("replica-0"));
+        replicas.put("replica-1", database("replica-1"));
+        lagMonitor = new ReplicaLagMonitor(replicas, connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet name = statement.executeQuery("SELECT name FROM whoami")) {
+                name.next();
+                return lags.getOrDefault(name.getString(1), Duration.ZERO);
+            }
+        }, Duration.ofSeconds(5));
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"), replicas, lagMonitor);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReplicaRoutingDataSource.setPrimaryOnly(false);
+    }
+
+    @DisplayName("JUnit test for routing read-only transactions across current replicas")
+    @Test
+    public void givenCurrentReplicas_whenReadOnlyTransactions_thenRoundRobinReplicas() {
+        // given - precondition or setup
+        lagMonitor.refresh();
+
+        // when - action or the behaviour that we are going test
+        List<String> reads = List.of(readOnly.execute(status -> whoami()), readOnly.execute(status -> whoami()));
+        String write = readWrite.execute(status -> whoami());
+        String outsideTransaction = whoami();
+
+        // then - verify the output
+        assertThat(String.join(",", reads)).isEqualTo("replica-0,replica-1");
+        assertThat(write).isEqualTo("primary");
+        assertThat(outsideTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("JUnit test for routing reads away from lagging replicas")
+    @Test
+    public void givenLaggingReplicas_whenReadOnlyTransactions_thenSkipThem() {
+        // given - precondition or setup
+        lags.put("replica-0", Duration.ofSeconds(30));
+        lagMonitor.refresh();
+
+        // when - action or the behaviour that we are going test
+        List<String> reads = List.of(readOnly.execute(status -> whoami()), readOnly.execute(status -> whoami()));
+        lags.put("replica-1", null);
+        lagMonitor.refresh();
+        String allLagging = readOnly.execute(status -> whoami());
+
+        // then - verify the output
+        assertThat(String.join(",", reads)).isEqualTo("replica-1,replica-1");
+        assertThat(allLagging).isEqualTo("primary");
+    }
+
+    @DisplayName("JUnit test for read-only transactions on a thread pinned to the primary")
+    @Test
+    public void givenPrimaryOnly_whenReadOnlyTransaction_thenReadFromPrimary() {
+        // given - precondition or setup
+        lagMonitor.refresh();
+        ReplicaRoutingDataSource.setPrimaryOnly(true);
+
+        // when - action or the behaviour that we are going test
+        String read = readOnly.execute(status -> whoami());
+
+        // then - verify the output
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @DisplayName("JUnit test for reads before the first lag check")
+    @Test
+    public void givenUncheckedReplicas_whenReadOnlyTransaction_thenReadFromPrimary() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going test
+        String read = readOnly.execute(status -> whoami());
+
+        // then - verify the output
+        assertThat(read).isEqualTo("primary");
+    }
+
+    private String whoami() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.angelcruzl.springboot.testing.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class SqlStatementMetricsFilterTests {
+
+    private SqlStatementCounter statementCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqlStatementMetricsFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        statementCounter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementMetricsFilter(statementCounter, meterRegistry);
+    }
+
+    @DisplayName("JUnit test for recording the statements prepared during a request")
+    @Test
+    public void givenRequestPreparingStatements_whenFilter_thenRecordStatementCountByUri() throws Exception {
+        // given - precondition or setup
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            statementCounter.inspect("select 1");
+            statementCounter.inspect("select 2");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employees/{id}");
+        });
+
+        // then - verify the output
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/v1/employees/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1L);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+    }
+
+    @DisplayName("JUnit test for ignoring statements outside a request")
+    @Test
+    public void givenStatementOutsideRequest_whenInspect_thenNotCounted() throws Exception {
+        // given - precondition or setup
+        statementCounter.inspect("select 1");
+
+        // when - action or the behaviour that we are going test
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then - verify the output
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("uri", "UNKNOWN")
+                .summary();
+        assertThat(summary.totalAmount()).isEqualTo(0.0);
+    }
+}
@@ -1,28 +1,70 @@
 package dev.angelcruzl.springboot.testing.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChangePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeFilter;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.dto.EmployeeWriteStatus;
+import dev.angelcruzl.springboot.testing.exception.BadRequestException;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.PreconditionFailedException;
+import dev.angelcruzl.springboot.testing.exception.ResourceGoneException;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.exception.TooManyRequestsException;
 import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeFeedService;
+import dev.angelcruzl.springboot.testing.service.EmployeeChangeSubscriber;
 import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import dev.angelcruzl.springboot.testing.service.EmployeeSuggestionService;
+import dev.angelcruzl.springboot.testing.service.EmployeeWriteBehindService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EmployeeController.class)
 public class EmployeeControllerTests {
@@ -33,6 +75,15 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService service;
 
+    @MockBean
+    private EmployeeSuggestionService suggestionService;
+
+    @MockBean
+    private EmployeeWriteBehindService writeBehindService;
+
+    @MockBean
+    private EmployeeChangeFeedService changeFeedService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -61,19 +112,153 @@ public class EmployeeControllerTests {
     }
 
     @Test
-    public void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeesList() throws Exception {
+    public void givenRespondAsync_whenCreateEmployee_thenReturnAccepted() throws Exception {
         // given - precondition or setup
-        List<Employee> listOfEmployees = new ArrayList<>();
-        listOfEmployees.add(Employee.builder()
+        Employee employee = Employee.builder()
                 .firstName("Angel")
                 .lastName("Cruz")
                 .email("me@angelcruzl.dev")
-                .build());
-        listOfEmployees.add(Employee.builder()
-                .firstName("John")
-                .lastName("Doe")
-                .email("john@doe")
-                .build());
+                .build();
+
+        given(writeBehindService.isRunning()).willReturn(true);
+        given(writeBehindService.enqueue(any(Employee.class))).willReturn(EmployeeWriteStatus.pending("abc"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/v1/employees/pending/abc"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.trackingId", is("abc")))
+                .andExpect(jsonPath("$.state", is("PENDING")));
+        verify(service, never()).saveEmployee(any(Employee.class));
+    }
+
+    @Test
+    public void givenFullWriteBehindQueue_whenCreateEmployee_thenReturnTooManyRequests() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(writeBehindService.isRunning()).willReturn(true);
+        willThrow(new TooManyRequestsException("Write-behind queue is full, retry later"))
+                .given(writeBehindService).enqueue(any(Employee.class));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    public void givenTrackingId_whenGetPendingEmployee_thenReturnStatus() throws Exception {
+        // given - precondition or setup
+        given(writeBehindService.getStatus("abc")).willReturn(Optional.of(EmployeeWriteStatus.created("abc", 7L)));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/pending/{trackingId}", "abc"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("CREATED")))
+                .andExpect(jsonPath("$.employeeId", is(7)));
+    }
+
+    @Test
+    public void givenIdsAndEmails_whenLookupEmployees_thenReturnEmployeesAndMisses() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+        EmployeeLookupRequest request = EmployeeLookupRequest.builder()
+                .ids(List.of(1L, 2L))
+                .emails(List.of("me@angelcruzl.dev"))
+                .build();
+        given(service.lookupEmployees(any(EmployeeLookupRequest.class))).willReturn(new EmployeeLookupResult(
+                Arrays.asList(employee, null), List.of(employee), List.of(2L), List.of()));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeesById[0].email", is(employee.getEmail())))
+                .andExpect(jsonPath("$.employeesById[1]", nullValue()))
+                .andExpect(jsonPath("$.employeesByEmail[0].id", is(1)))
+                .andExpect(jsonPath("$.missingIds[0]", is(2)));
+        verify(service).lookupEmployees(argThat(lookup -> lookup.getIds().equals(List.of(1L, 2L))));
+    }
+
+    @Test
+    public void givenExistingEmail_whenCreateEmployee_thenReturnConflict() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(service.saveEmployee(any(Employee.class)))
+                .willThrow(new DuplicateResourceException("Employee with email " + employee.getEmail() + " already exists"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    public void givenListOfEmployees_whenCreateEmployees_thenReturnPerRowResults() throws Exception {
+        // given - precondition or setup
+        List<Employee> listOfEmployees = List.of(
+                Employee.builder().firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build(),
+                Employee.builder().firstName("John").lastName("Doe").email("me@angelcruzl.dev").build());
+
+        given(service.saveEmployees(anyList())).willReturn(List.of(
+                EmployeeBatchResult.created(0, 1L),
+                EmployeeBatchResult.duplicate(1, "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")));
+    }
+
+    @Test
+    public void givenListOfEmployees_whenGetAllEmployees_thenReturnEmployeesList() throws Exception {
+        // given - precondition or setup
+        List<EmployeeView> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"));
+        listOfEmployees.add(new EmployeeView(2L, "John", "Doe", "john@doe"));
 
         given(service.getAllEmployees()).willReturn(listOfEmployees);
 
@@ -86,6 +271,114 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$.size()", is(listOfEmployees.size())));
     }
 
+    @Test
+    public void givenCborAccepted_whenGetAllEmployees_thenReturnCborList() throws Exception {
+        // given - precondition or setup
+        given(service.getAllEmployees()).willReturn(List.of(new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees").accept(MediaType.APPLICATION_CBOR));
+
+        // then - verify the result or output using assert statements
+        MvcResult result = response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        JsonNode employees = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(employees.size()).isEqualTo(1);
+        assertThat(employees.get(0).get("email").asText()).isEqualTo("me@angelcruzl.dev");
+    }
+
+    @Test
+    public void givenFields_whenGetAllEmployees_thenReturnOnlyRequestedFields() throws Exception {
+        // given - precondition or setup
+        given(service.getAllEmployeeFields(List.of("id", "email")))
+                .willReturn(List.of(Map.of("id", 1L, "email", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees").param("fields", "id,email"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].email", is("me@angelcruzl.dev")))
+                .andExpect(jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    @Test
+    public void givenUnknownField_whenGetAllEmployees_thenReturnBadRequest() throws Exception {
+        // given - precondition or setup
+        given(service.getAllEmployeeFields(List.of("salary")))
+                .willThrow(new BadRequestException("Unknown employee field: salary"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees").param("fields", "salary"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenAfterAndLimit_whenGetEmployeesPage_thenReturnPageWithNextCursor() throws Exception {
+        // given - precondition or setup
+        List<EmployeeView> listOfEmployees = List.of(
+                new EmployeeView(3L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(4L, "John", "Doe", "john@doe"));
+
+        given(service.getEmployeesPage(2L, 2)).willReturn(new EmployeePage<>(listOfEmployees, 4L));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees")
+                .param("after", "2")
+                .param("limit", "2"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$.content[0].id", is(3)))
+                .andExpect(jsonPath("$.nextCursor", is(4)));
+    }
+
+    @Test
+    public void givenLastPage_whenGetEmployeesPage_thenReturnNullCursor() throws Exception {
+        // given - precondition or setup
+        given(service.getEmployeesPage(null, 10)).willReturn(new EmployeePage<>(List.of(), null));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees").param("limit", "10"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(0)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenListOfEmployees_whenStreamAllEmployees_thenReturnJsonArray() throws Exception {
+        // given - precondition or setup
+        List<EmployeeView> listOfEmployees = List.of(
+                new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(2L, "John", "Doe", "john@doe"));
+
+        willAnswer(invocation -> {
+            listOfEmployees.forEach(invocation.<Consumer<EmployeeView>>getArgument(0));
+            return null;
+        }).given(service).forEachEmployee(any(Consumer.class));
+
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/employees").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[1].email", is("john@doe")));
+    }
+
     @Test
     public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeObject() throws Exception {
         // given - precondition or setup
@@ -128,6 +421,27 @@ public class EmployeeControllerTests {
                 .andDo(print());
     }
 
+    @Test
+    public void givenEmployeeEmail_whenGetEmployeeByEmail_thenReturnEmployeeObject() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+        given(service.getEmployeeByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees").param("email", employee.getEmail()));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.id", is(employee.getId().intValue())))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+    }
+
     @Test
     public void givenEmployeeIdAndUpdatedEmployee_whenUpdateEmployee_thenReturnUpdatedEmployee() throws Exception {
         // given - precondition or setup
@@ -144,7 +458,6 @@ public class EmployeeControllerTests {
                 .email("luis@lara")
                 .build();
 
-        given(service.getEmployeeById(employee.getId())).willReturn(Optional.of(employee));
         given(service.updateEmployee(any(Employee.class))).willAnswer((invocation) -> invocation.getArgument(0));
 
         // when - action or the behaviour that we are going test
@@ -169,7 +482,8 @@ public class EmployeeControllerTests {
                 .email("me@angelcruzl.dev")
                 .build();
 
-        given(service.getEmployeeById(employee.getId())).willReturn(Optional.empty());
+        given(service.updateEmployee(any(Employee.class)))
+                .willThrow(new ResourceNotFoundException("Employee with id " + employee.getId() + " not found"));
 
         // when - action or the behaviour that we are going test
         ResultActions response = mockMvc.perform(put("/api/v1/employees/{id}", employee.getId())
@@ -195,4 +509,277 @@ public class EmployeeControllerTests {
                 .andExpect(jsonPath("$", is("Employee with id " + employeeId + " deleted successfully")));
     }
 
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        long employeeId = 1L;
+        willThrow(new ResourceNotFoundException("Employee with id " + employeeId + " not found"))
+                .given(service).deleteEmployee(employeeId);
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/v1/employees/{id}", employeeId));
+
+        // then - verify the result or output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    @Test
+    public void givenFilterAndNewLastName_whenBulkUpdateEmployees_thenReturnAffectedCount() throws Exception {
+        // given - precondition or setup
+        EmployeeBulkRequest request = EmployeeBulkRequest.builder()
+                .filter(new EmployeeFilter("angelcruzl.dev", null))
+                .lastName("Lopez")
+                .build();
+        given(service.updateEmployees(any(EmployeeBulkRequest.class))).willReturn(new EmployeeBulkResult(42));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(patch("/api/v1/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then - verify the result or output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(42)));
+    }
+
+    @Test
+    public void givenIds_whenBulkDeleteEmployees_thenReturnAffectedCount() throws Exception {
+        // given - precondition or setup
+        EmployeeBulkRequest request = EmployeeBulkRequest.builder()
+                .ids(List.of(1L, 2L, 3L))
+                .build();
+        given(service.deleteEmployees(any(EmployeeBulkRequest.class))).willReturn(new EmployeeBulkResult(3));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/v1/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then - verify the result or output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected", is(3)));
+    }
+
+    @Test
+    public void givenEmptySelection_whenBulkDeleteEmployees_thenReturnBadRequest() throws Exception {
+        // given - precondition or setup
+        given(service.deleteEmployees(any(EmployeeBulkRequest.class)))
+                .willThrow(new BadRequestException("A bulk request needs either ids or a non-empty filter"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(delete("/api/v1/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"));
+
+        // then - verify the result or output
+        response.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenPrefixAndSort_whenSearchEmployees_thenReturnMatches() throws Exception {
+        // given - precondition or setup
+        given(service.searchEmployees(argThat(criteria -> "Cr".equals(criteria.getLastName())
+                && "lastName".equals(criteria.getSort()) && criteria.isDescending() && criteria.getLimit() == 20)))
+                .willReturn(List.of(new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/search")
+                .param("lastName", "Cr")
+                .param("sort", "lastName,desc")
+                .param("limit", "20"));
+
+        // then - verify the result or output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].lastName", is("Cruz")));
+    }
+
+    @Test
+    public void givenQuery_whenSuggestEmployees_thenReturnSuggestions() throws Exception {
+        // given - precondition or setup
+        given(suggestionService.suggest("ang cr", 5))
+                .willReturn(List.of(new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("q", "ang cr")
+                .param("limit", "5"));
+
+        // then - verify the result or output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].email", is("me@angelcruzl.dev")));
+    }
+
+    @Test
+    public void givenCurrentETag_whenGetEmployeeById_thenReturnNotModified() throws Exception {
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .version(3L)
+                .build();
+        given(service.getEmployeeById(employee.getId())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going test
+        ResultActions fresh = mockMvc.perform(get("/api/v1/employees/{id}", employee.getId()));
+        ResultActions unchanged = mockMvc.perform(get("/api/v1/employees/{id}", employee.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+        ResultActions changed = mockMvc.perform(get("/api/v1/employees/{id}", employee.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""));
+
+        // then - verify the result or output
+        fresh.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+        unchanged.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+        changed.andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+    }
+
+    @Test
+    public void givenIfMatch_whenUpdateEmployee_thenUpdateThatVersion() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .build();
+        given(service.updateEmployee(argThat(employee -> employee.getId() == 1L && employee.getVersion() == 3L)))
+                .willAnswer(invocation -> {
+                    Employee employee = invocation.getArgument(0);
+                    employee.setVersion(4L);
+                    return employee;
+                });
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(put("/api/v1/employees/{id}", 1L)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.firstName", is("Luis")));
+    }
+
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturnPreconditionFailed() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .build();
+        given(service.updateEmployee(any(Employee.class)))
+                .willThrow(new PreconditionFailedException("Employee with id 1 was modified since version 2"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions stale = mockMvc.perform(put("/api/v1/employees/{id}", 1L)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+        ResultActions weak = mockMvc.perform(put("/api/v1/employees/{id}", 1L)
+                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output
+        stale.andExpect(status().isPreconditionFailed());
+        weak.andExpect(status().isPreconditionFailed());
+        verify(service).updateEmployee(any(Employee.class));
+    }
+
+    @Test
+    public void givenCursor_whenGetChanges_thenReturnChangesSinceCursor() throws Exception {
+        // given - precondition or setup
+        given(changeFeedService.getLatestSeq()).willReturn(41L);
+        CompletableFuture<EmployeeChangePage> published = new CompletableFuture<>();
+        given(changeFeedService.awaitChanges(41L, 100, Duration.ofSeconds(20))).willReturn(published);
+
+        // when - action or the behaviour that we are going test
+        ResultActions cursor = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/employees/changes"))
+                .andReturn()));
+        MvcResult waiting = mockMvc.perform(get("/api/v1/employees/changes")
+                        .param("since", "41")
+                        .param("wait", "20"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        published.complete(new EmployeeChangePage(
+                List.of(new EmployeeChange(42L, EmployeeChange.Type.SAVED, 1L, "Angel", "Cruz", "me@angelcruzl.dev",
+                        Instant.parse("2024-04-01T10:15:30Z"))),
+                42L));
+        ResultActions changes = mockMvc.perform(asyncDispatch(waiting));
+
+        // then - verify the result or output
+        cursor.andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.size()", is(0)))
+                .andExpect(jsonPath("$.next", is(41)));
+        changes.andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].seq", is(42)))
+                .andExpect(jsonPath("$.changes[0].type", is("SAVED")))
+                .andExpect(jsonPath("$.changes[0].email", is("me@angelcruzl.dev")))
+                .andExpect(jsonPath("$.next", is(42)));
+    }
+
+    @Test
+    public void givenLastEventId_whenStreamChanges_thenSendChangesAsEvents() throws Exception {
+        // given - precondition or setup
+        given(changeFeedService.getChanges(41L, 1)).willReturn(new EmployeeChangePage(List.of(), 41L));
+        ArgumentCaptor<EmployeeChangeSubscriber> subscriber = ArgumentCaptor.forClass(EmployeeChangeSubscriber.class);
+
+        // when - action or the behaviour that we are going test
+        MvcResult stream = mockMvc.perform(get("/api/v1/employees/changes")
+                        .param("stream", "true")
+                        .header("Last-Event-ID", "41"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        verify(changeFeedService).subscribe(eq(41L), subscriber.capture());
+        subscriber.getValue().onChanges(List.of());
+        subscriber.getValue().onChanges(List.of(
+                new EmployeeChange(42L, EmployeeChange.Type.SAVED, 1L, "Angel", "Cruz", "me@angelcruzl.dev",
+                        Instant.parse("2024-04-01T10:15:30Z")),
+                new EmployeeChange(43L, EmployeeChange.Type.DELETED, 1L, null, null, null,
+                        Instant.parse("2024-04-01T10:16:30Z"))));
+        subscriber.getValue().onGone();
+
+        // then - verify the result or output
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/event-stream"))
+                .andExpect(content().string(stringContainsInOrder(
+                        ":keep-alive\n\n",
+                        "id:42\nevent:SAVED\ndata:{\"seq\":42,\"type\":\"SAVED\"",
+                        "id:43\nevent:DELETED\ndata:{\"seq\":43,\"type\":\"DELETED\"")));
+        verify(changeFeedService).unsubscribe(subscriber.getValue());
+    }
+
+    @Test
+    public void givenPurgedCursor_whenGetChanges_thenReturnGone() throws Exception {
+        // given - precondition or setup
+        given(changeFeedService.awaitChanges(any(Long.class), any(Integer.class), any(Duration.class)))
+                .willReturn(CompletableFuture.failedFuture(
+                        new ResourceGoneException("Changes after 3 are no longer retained")));
+        given(changeFeedService.getChanges(any(Long.class), any(Integer.class)))
+                .willThrow(new ResourceGoneException("Changes after 3 are no longer retained"));
+
+        // when - action or the behaviour that we are going test
+        ResultActions poll = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/v1/employees/changes")
+                .param("since", "3")).andReturn()));
+        ResultActions stream = mockMvc.perform(get("/api/v1/employees/changes")
+                .param("stream", "true")
+                .header("Last-Event-ID", "3"));
+
+        // then - verify the result or output
+        poll.andExpect(status().isGone());
+        stream.andExpect(status().isGone());
+        verify(changeFeedService, never()).getLatestSeq();
+    }
+
 }
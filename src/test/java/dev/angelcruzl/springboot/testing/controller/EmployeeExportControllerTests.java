@@ -0,0 +1,102 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EmployeeExportController.class)
+public class EmployeeExportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<EmployeeView> employees = List.of(
+                new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(2L, "John", "Doe, Jr.", "john@doe.com"));
+        willAnswer(invocation -> {
+            employees.forEach(invocation.<Consumer<EmployeeView>>getArgument(0));
+            return null;
+        }).given(service).forEachEmployee(any(Consumer.class));
+    }
+
+    @Test
+    public void givenEmployees_whenExportAsNdjson_thenReturnOneDocumentPerLine() throws Exception {
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/export"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("employees.ndjson")))
+                .andExpect(content().string(
+                        "{\"id\":1,\"firstName\":\"Angel\",\"lastName\":\"Cruz\",\"email\":\"me@angelcruzl.dev\"}\n"
+                                + "{\"id\":2,\"firstName\":\"John\",\"lastName\":\"Doe, Jr.\",\"email\":\"john@doe.com\"}\n"));
+    }
+
+    @Test
+    public void givenEmployees_whenExportAsCsv_thenReturnHeaderAndQuotedRows() throws Exception {
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/export").param("format", "csv"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EmployeeImportController.TEXT_CSV_VALUE))
+                .andExpect(content().string("id,firstName,lastName,email\n"
+                        + "1,Angel,Cruz,me@angelcruzl.dev\n"
+                        + "2,John,\"Doe, Jr.\",john@doe.com\n"));
+    }
+
+    @Test
+    public void givenGzip_whenExportAsCsv_thenReturnCompressedCsv() throws Exception {
+        // when - action or the behaviour that we are going test
+        MvcResult result = mockMvc.perform(get("/api/v1/employees/export").param("format", "csv").param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EmployeeExportController.GZIP_VALUE))
+                .andExpect(header().string("Content-Disposition", containsString("employees.csv.gz")))
+                .andReturn();
+
+        // then - verify the result or output using assert statements
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("id,firstName,lastName,email\n1,Angel,Cruz,me@angelcruzl.dev\n");
+    }
+
+    @Test
+    public void givenUnknownFormat_whenExport_thenReturnBadRequest() throws Exception {
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/export").param("format", "xml"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isBadRequest());
+    }
+}
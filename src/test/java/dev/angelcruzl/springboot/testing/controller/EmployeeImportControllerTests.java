@@ -0,0 +1,118 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+import dev.angelcruzl.springboot.testing.service.EmployeeImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EmployeeImportController.class)
+public class EmployeeImportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeImportService service;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void givenCsvUpload_whenImportEmployees_thenReturnAcceptedWithJobLocation() throws Exception {
+        // given - precondition or setup
+        given(service.startImport(any(InputStream.class), eq(EmployeeImportService.Format.CSV)))
+                .willReturn(importStatus("job-1", EmployeeImportStatus.State.RUNNING));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees/import")
+                .contentType(EmployeeImportController.TEXT_CSV_VALUE)
+                .content("firstName,lastName,email\nAngel,Cruz,me@angelcruzl.dev\n"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isAccepted())
+                .andDo(print())
+                .andExpect(header().string("Location", endsWith("/api/v1/employees/import/job-1")))
+                .andExpect(jsonPath("$.state", is("RUNNING")));
+    }
+
+    @Test
+    public void givenNdjsonUpload_whenImportEmployees_thenUseNdjsonFormat() throws Exception {
+        // given - precondition or setup
+        given(service.startImport(any(InputStream.class), eq(EmployeeImportService.Format.NDJSON)))
+                .willReturn(importStatus("job-2", EmployeeImportStatus.State.RUNNING));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(post("/api/v1/employees/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"firstName\":\"Angel\",\"lastName\":\"Cruz\",\"email\":\"me@angelcruzl.dev\"}\n"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is("job-2")));
+    }
+
+    @Test
+    public void givenUnknownJob_whenGetImportStatus_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        given(service.getImportStatus("missing")).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/import/{jobId}", "missing"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenRunningJob_whenGetRejects_thenReturnConflict() throws Exception {
+        // given - precondition or setup
+        given(service.getImportStatus("job-1")).willReturn(Optional.of(importStatus("job-1", EmployeeImportStatus.State.RUNNING)));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/import/{jobId}/rejects", "job-1"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isConflict());
+    }
+
+    @Test
+    public void givenCompletedJob_whenGetRejects_thenReturnRejectsCsv() throws Exception {
+        // given - precondition or setup
+        Path rejects = Files.writeString(tempDir.resolve("rejects.csv"), "row,email,reason\n2,,\"email is required\"\n");
+        given(service.getImportStatus("job-1")).willReturn(Optional.of(importStatus("job-1", EmployeeImportStatus.State.COMPLETED)));
+        given(service.getRejectsFile("job-1")).willReturn(Optional.of(rejects));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = mockMvc.perform(get("/api/v1/employees/import/{jobId}/rejects", "job-1"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EmployeeImportController.TEXT_CSV_VALUE))
+                .andExpect(content().string("row,email,reason\n2,,\"email is required\"\n"));
+    }
+
+    private EmployeeImportStatus importStatus(String id, EmployeeImportStatus.State state) {
+        return new EmployeeImportStatus(id, state, 0, 0, 0, null);
+    }
+}
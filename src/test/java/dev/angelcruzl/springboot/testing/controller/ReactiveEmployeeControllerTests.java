@@ -0,0 +1,158 @@
+package dev.angelcruzl.springboot.testing.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import dev.angelcruzl.springboot.testing.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.RequestBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveEmployeeController.class)
+public class ReactiveEmployeeControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveEmployeeService service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("JUnit test for v2 create employee operation")
+    @Test
+    public void givenEmployeeObject_whenCreateEmployee_thenReturnEmployee() throws Exception {
+        // given - precondition or setup
+        ReactiveEmployee employee = ReactiveEmployee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        given(service.saveEmployee(any(ReactiveEmployee.class)))
+                .willAnswer((invocation) -> {
+                    ReactiveEmployee saved = invocation.getArgument(0);
+                    saved.setId(1L);
+                    return Mono.just(saved);
+                });
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(post("/api/v2/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+    }
+
+    @DisplayName("JUnit test for v2 get all employees as NDJSON")
+    @Test
+    public void givenListOfEmployees_whenGetAllEmployees_thenReturnNdjson() throws Exception {
+        // given - precondition or setup
+        given(service.getAllEmployees()).willReturn(Flux.just(
+                ReactiveEmployee.builder().id(1L).firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build(),
+                ReactiveEmployee.builder().id(2L).firstName("John").lastName("Doe").email("john@doe.com").build()));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(get("/api/v2/employees").accept(MediaType.APPLICATION_NDJSON));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"email\":\"me@angelcruzl.dev\"}\n")))
+                .andExpect(content().string(containsString("\"email\":\"john@doe.com\"}\n")))
+                .andDo(print());
+    }
+
+    @DisplayName("JUnit test for v2 keyset page of employees")
+    @Test
+    public void givenLimit_whenGetEmployeesPage_thenReturnPageWithCursor() throws Exception {
+        // given - precondition or setup
+        ReactiveEmployee employee = ReactiveEmployee.builder()
+                .id(5L).firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build();
+        given(service.getEmployeesPage(4L, 1)).willReturn(Mono.just(new EmployeePage<>(List.of(employee), 5L)));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(get("/api/v2/employees").param("after", "4").param("limit", "1"));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.size()", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is(5)));
+    }
+
+    @DisplayName("JUnit test for v2 get employee by id when it does not exist")
+    @Test
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        given(service.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(get("/api/v2/employees/{id}", 1L));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound());
+    }
+
+    @DisplayName("JUnit test for v2 update employee when it does not exist")
+    @Test
+    public void givenInvalidEmployeeId_whenUpdateEmployee_thenReturnNotFound() throws Exception {
+        // given - precondition or setup
+        ReactiveEmployee updatedEmployee = ReactiveEmployee.builder()
+                .firstName("John").lastName("Doe").email("john@doe.com").build();
+        given(service.updateEmployee(any(ReactiveEmployee.class)))
+                .willReturn(Mono.error(new ResourceNotFoundException("Employee with id 1 not found")));
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(put("/api/v2/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isNotFound());
+    }
+
+    @DisplayName("JUnit test for v2 delete employee operation")
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenReturn200() throws Exception {
+        // given - precondition or setup
+        given(service.deleteEmployee(1L)).willReturn(Mono.empty());
+
+        // when - action or the behaviour that we are going test
+        ResultActions response = performAsync(delete("/api/v2/employees/{id}", 1L));
+
+        // then - verify the result or output using assert statements
+        response.andExpect(status().isOk())
+                .andExpect(content().string("Employee with id 1 deleted successfully"));
+    }
+
+    private ResultActions performAsync(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// No test transaction: every repository call gets its own session, so repeated reads can only be
+// answered by the second-level cache, never by the persistence context
+@DataJpaTest
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmployeeRepositoryCacheTests {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setUp() {
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+
+        // start cold, the insert itself already populated the entity region
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for repeated find by id served from the entity cache")
+    @Test
+    public void givenCachedEmployee_whenFindByIdAgain_thenNoStatementIssued() {
+        // given - precondition or setup
+        employeeRepository.findById(employee.getId());
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+
+        // when - action or the behaviour that we are going test
+        Optional<Employee> cachedEmployee = employeeRepository.findById(employee.getId());
+
+        // then - verify the output
+        assertThat(statementsAfterFirstRead).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.EMPLOYEE_REGION).getHitCount())
+                .isEqualTo(1L);
+        assertThat(cachedEmployee.get().getEmail()).isEqualTo(employee.getEmail());
+    }
+
+    @DisplayName("JUnit test for repeated find by email served from the query cache")
+    @Test
+    public void givenCachedLookup_whenFindByEmailAgain_thenNoStatementIssued() {
+        // given - precondition or setup
+        employeeRepository.findByEmail(employee.getEmail());
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+
+        // when - action or the behaviour that we are going test
+        Optional<Employee> cachedEmployee = employeeRepository.findByEmail(employee.getEmail());
+
+        // then - verify the output
+        assertThat(statementsAfterFirstRead).isEqualTo(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getQueryRegionStatistics(HibernateCacheConfig.EMPLOYEE_LOOKUPS_REGION).getHitCount())
+                .isEqualTo(1L);
+        assertThat(cachedEmployee.get().getId()).isEqualTo(employee.getId());
+    }
+
+    @DisplayName("JUnit test for cached find by email after the employee changed")
+    @Test
+    public void givenCachedLookup_whenEmployeeEmailChanges_thenLookupSeesChange() {
+        // given - precondition or setup
+        employeeRepository.findByEmail(employee.getEmail());
+        Employee changed = employeeRepository.findById(employee.getId()).get();
+        changed.setEmail("angel@cruz.dev");
+        employeeRepository.save(changed);
+
+        // when - action or the behaviour that we are going test
+        Optional<Employee> byOldEmail = employeeRepository.findByEmail(employee.getEmail());
+        Optional<Employee> byNewEmail = employeeRepository.findByEmail("angel@cruz.dev");
+
+        // then - verify the output
+        assertThat(byOldEmail).isEmpty();
+        assertThat(byNewEmail.get().getId()).isEqualTo(employee.getId());
+    }
+}
@@ -1,14 +1,21 @@
 package dev.angelcruzl.springboot.testing.repository;
 
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
 import dev.angelcruzl.springboot.testing.model.Employee;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -176,4 +183,253 @@ public class EmployeeRepositoryTests {
         assertThat(employeeDb).isNotNull();
     }
 
+    @DisplayName("JUnit test for keyset page operation")
+    @Test
+    public void givenEmployeesList_whenFindByIdGreaterThan_thenReturnNextRowsInIdOrder() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane@doe")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> employeeList = employeeRepository.findByIdGreaterThanOrderByIdAsc(employee.getId(), Limit.of(1));
+
+        // then - verify the output
+        assertThat(employeeList.size()).isEqualTo(1);
+        assertThat(employeeList.get(0).getId()).isEqualTo(employee2.getId());
+    }
+
+    @DisplayName("JUnit test for find all views operation")
+    @Test
+    public void givenEmployeeObject_whenFindAllViews_thenReturnViewsOfStoredRows() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> views = employeeRepository.findAllViews();
+
+        // then - verify the output
+        assertThat(views.size()).isEqualTo(1);
+        assertThat(views.get(0).getId()).isEqualTo(employee.getId());
+        assertThat(views.get(0).getEmail()).isEqualTo(employee.getEmail());
+    }
+
+    @DisplayName("JUnit test for find all fields operation")
+    @Test
+    public void givenEmployeeObject_whenFindAllFields_thenReturnOnlyRequestedFields() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going test
+        List<Map<String, Object>> rows = employeeRepository.findAllFields(List.of("email", "id"));
+
+        // then - verify the output
+        assertThat(rows.size()).isEqualTo(1);
+        assertThat(String.join(",", rows.get(0).keySet())).isEqualTo("email,id");
+        assertThat(rows.get(0).get("email")).isEqualTo(employee.getEmail());
+    }
+
+    @DisplayName("JUnit test for find existing emails operation")
+    @Test
+    public void givenEmployeeObject_whenFindExistingEmails_thenReturnOnlyStoredEmails() {
+        // given - precondition or setup
+        employeeRepository.save(employee);
+
+        // when - action or the behaviour that we are going test
+        Set<String> existingEmails = employeeRepository.findExistingEmails(List.of(employee.getEmail(), "john@doe"));
+
+        // then - verify the output
+        assertThat(existingEmails).isEqualTo(Set.of(employee.getEmail()));
+    }
+
+    @DisplayName("JUnit test for unique email constraint")
+    @Test
+    public void givenExistingEmail_whenSaveAndFlush_thenThrowDataIntegrityViolation() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        Employee duplicate = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(employee.getEmail())
+                .build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> employeeRepository.saveAndFlush(duplicate));
+
+        // then - verify the output
+    }
+
+    @DisplayName("JUnit test for find ids by filter operation")
+    @Test
+    public void givenEmployeesList_whenFindIdsByFilter_thenReturnMatchingIdsAfterCursor() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("John")
+                .lastName("Cruz")
+                .email("john@angelcruzl.dev")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Jane")
+                .lastName("Cruz")
+                .email("jane@doe")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3));
+
+        // when - action or the behaviour that we are going test
+        List<Long> byDomain = employeeRepository.findIdsByFilter(0L, "angelcruzl.dev", null, Limit.of(10));
+        List<Long> byDomainAndLastName = employeeRepository.findIdsByFilter(employee.getId(), "angelcruzl.dev", "Cruz",
+                Limit.of(10));
+
+        // then - verify the output
+        assertThat(byDomain).isEqualTo(List.of(employee.getId(), employee2.getId()));
+        assertThat(byDomainAndLastName).isEqualTo(List.of(employee2.getId()));
+    }
+
+    @DisplayName("JUnit test for find ids by filter operation with wildcards in the email domain")
+    @Test
+    public void givenWildcardEmailDomain_whenFindIdsByFilter_thenMatchDomainLiterally() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("John")
+                .lastName("Cruz")
+                .email("john@angel_cruzl.dev")
+                .build();
+        Employee employee3 = Employee.builder()
+                .firstName("Jane")
+                .lastName("Cruz")
+                .email("jane@angelxcruzl.dev")
+                .build();
+        employeeRepository.saveAll(List.of(employee, employee2, employee3));
+
+        // when - action or the behaviour that we are going test
+        List<Long> byPercent = employeeRepository.findIdsByFilter(0L, "%", null, Limit.of(10));
+        List<Long> byUnderscore = employeeRepository.findIdsByFilter(0L, "angel_cruzl.dev", null, Limit.of(10));
+
+        // then - verify the output
+        assertThat(byPercent).isEqualTo(List.of());
+        assertThat(byUnderscore).isEqualTo(List.of(employee2.getId()));
+    }
+
+    @DisplayName("JUnit test for update by id and version operation")
+    @Test
+    public void givenEmployeeVersion_whenUpdateByIdAndVersion_thenOnlyCurrentVersionApplies() {
+        // given - precondition or setup
+        employeeRepository.saveAndFlush(employee);
+        Long version = employee.getVersion();
+
+        // when - action or the behaviour that we are going test
+        int first = employeeRepository.updateByIdAndVersion(employee.getId(), version, "Luis", "Lara", "luis@lara");
+        int stale = employeeRepository.updateByIdAndVersion(employee.getId(), version, "John", "Doe", "john@doe");
+        int next = employeeRepository.updateByIdAndVersion(employee.getId(), version + 1, "John", "Doe", "john@doe");
+
+        // then - verify the output
+        assertThat(version).isEqualTo(0L);
+        assertThat(first).isEqualTo(1);
+        assertThat(stale).isEqualTo(0);
+        assertThat(next).isEqualTo(1);
+    }
+
+    @DisplayName("JUnit test for bulk update and delete by ids operation")
+    @Test
+    public void givenEmployeesList_whenUpdateNamesAndRemoveByIds_thenReturnAffectedRows() {
+        // given - precondition or setup
+        Employee employee2 = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@doe")
+                .build();
+        employeeRepository.saveAllAndFlush(List.of(employee, employee2));
+        List<Long> ids = List.of(employee.getId(), employee2.getId());
+
+        // when - action or the behaviour that we are going test
+        int updatedRows = employeeRepository.updateNamesByIds(ids, null, "Lopez");
+        List<EmployeeView> updated = employeeRepository.findAllViews();
+        int deletedRows = employeeRepository.removeByIds(ids);
+
+        // then - verify the output
+        assertThat(updatedRows).isEqualTo(2);
+        assertThat(updated.stream().map(EmployeeView::getLastName).toList()).isEqualTo(List.of("Lopez", "Lopez"));
+        assertThat(updated.stream().map(EmployeeView::getFirstName).toList()).isEqualTo(List.of("Angel", "John"));
+        assertThat(deletedRows).isEqualTo(2);
+        assertThat(employeeRepository.count()).isEqualTo(0L);
+    }
+
+    @DisplayName("JUnit test for loading employees by ids in request order")
+    @Test
+    public void givenEmployeesList_whenLoadAllById_thenReturnInRequestOrderWithNullForMisses() {
+        // given - precondition or setup
+        Employee employee1 = employeeRepository.save(employee);
+        Employee employee2 = employeeRepository.save(Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("john@cena.com")
+                .build());
+        employeeRepository.flush();
+
+        // when - action or the behaviour that we are going test
+        List<Employee> employees = employeeRepository.loadAllById(
+                List.of(employee2.getId(), employee2.getId() + 100, employee1.getId()), 2);
+
+        // then - verify the output
+        assertThat(employees.size()).isEqualTo(3);
+        assertThat(employees.get(0).getEmail()).isEqualTo("john@cena.com");
+        assertThat(employees.get(1)).isNull();
+        assertThat(employees.get(2).getEmail()).isEqualTo("me@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for prefix search operation")
+    @Test
+    public void givenEmployeesList_whenSearchByPrefix_thenReturnMatchesInSortOrder() {
+        // given - precondition or setup
+        employeeRepository.saveAll(List.of(
+                employee,
+                Employee.builder().firstName("John").lastName("Cruzado").email("john@doe").build(),
+                Employee.builder().firstName("Jane").lastName("Cruz").email("jane@doe").build(),
+                Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build()));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> byLastName = employeeRepository.search(EmployeeSearchCriteria.builder()
+                .lastName("Cru")
+                .sort("lastName")
+                .descending(true)
+                .build());
+        List<EmployeeView> byEmailLimited = employeeRepository.search(EmployeeSearchCriteria.builder()
+                .email("j")
+                .sort("email")
+                .limit(1)
+                .build());
+
+        // then - verify the output
+        assertThat(byLastName.stream().map(EmployeeView::getFirstName).toList())
+                .isEqualTo(List.of("John", "Jane", "Angel"));
+        assertThat(byEmailLimited.size()).isEqualTo(1);
+        assertThat(byEmailLimited.get(0).getEmail()).isEqualTo("jane@doe");
+    }
+
+    @DisplayName("JUnit test for prefix search with LIKE wildcards in the input")
+    @Test
+    public void givenWildcardInPrefix_whenSearch_thenMatchItLiterally() {
+        // given - precondition or setup
+        employeeRepository.saveAll(List.of(
+                employee,
+                Employee.builder().firstName("John").lastName("Doe").email("j_doe@doe.com").build()));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> underscore = employeeRepository.search(EmployeeSearchCriteria.builder().email("j_").build());
+        List<EmployeeView> percent = employeeRepository.search(EmployeeSearchCriteria.builder().email("%").build());
+
+        // then - verify the output
+        assertThat(underscore.size()).isEqualTo(1);
+        assertThat(underscore.get(0).getEmail()).isEqualTo("j_doe@doe.com");
+        assertThat(percent.size()).isEqualTo(0);
+    }
+
 }
@@ -0,0 +1,130 @@
+package dev.angelcruzl.springboot.testing.repository;
+
+import dev.angelcruzl.springboot.testing.model.ReactiveEmployee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-employees;DB_CLOSE_DELAY=-1")
+@Import(ReactiveEmployeeIdAllocator.class)
+public class ReactiveEmployeeRepositoryTests {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveEmployeeIdAllocator idAllocator;
+
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    public void setUp() {
+        // same shape Hibernate creates for Employee with the pooled-lo optimizer; the sequence is kept across
+        // tests because the allocator caches its current block
+        Flux.just("CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50",
+                        "CREATE TABLE IF NOT EXISTS employees (id BIGINT PRIMARY KEY, first_name VARCHAR(255) NOT NULL, "
+                                + "last_name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, version BIGINT DEFAULT 0, "
+                                + "CONSTRAINT uk_employees_email UNIQUE (email))",
+                        "DELETE FROM employees")
+                .concatMap(sql -> databaseClient.sql(sql).then())
+                .blockLast();
+    }
+
+    @DisplayName("JUnit test for allocating distinct ids across sequence blocks")
+    @Test
+    public void givenMoreIdsThanOneBlock_whenNextId_thenIdsAreDistinct() {
+        // given - precondition or setup
+        int count = ReactiveEmployeeIdAllocator.ALLOCATION_SIZE * 2 + 1;
+
+        // when - action or the behaviour that we are going test
+        List<Long> ids = Flux.range(0, count)
+                .concatMap(i -> idAllocator.nextId())
+                .collectList()
+                .block();
+
+        // then - verify the output
+        Set<Long> distinct = ids.stream().collect(Collectors.toSet());
+        assertThat(distinct).hasSize(count);
+        assertThat(ids).isSorted();
+    }
+
+    @DisplayName("JUnit test for insert and find by email operation")
+    @Test
+    public void givenInsertedEmployee_whenFindByEmail_thenReturnEmployee() {
+        // given - precondition or setup
+        insert("Angel", "Cruz", "me@angelcruzl.dev");
+
+        // when - action or the behaviour that we are going test
+        ReactiveEmployee found = employeeRepository.findByEmail("me@angelcruzl.dev").block();
+
+        // then - verify the output
+        assertThat(found).isNotNull();
+        assertThat(found.getFirstName()).isEqualTo("Angel");
+    }
+
+    @DisplayName("JUnit test for keyset page operation")
+    @Test
+    public void givenEmployees_whenFindByIdGreaterThan_thenReturnNextRowsInIdOrder() {
+        // given - precondition or setup
+        ReactiveEmployee first = insert("Angel", "Cruz", "me@angelcruzl.dev");
+        ReactiveEmployee second = insert("John", "Doe", "john@doe.com");
+        ReactiveEmployee third = insert("Jane", "Doe", "jane@doe.com");
+
+        // when - action or the behaviour that we are going test
+        List<ReactiveEmployee> page = employeeRepository
+                .findByIdGreaterThanOrderByIdAsc(first.getId(), PageRequest.ofSize(2))
+                .collectList()
+                .block();
+
+        // then - verify the output
+        assertThat(page).extracting(ReactiveEmployee::getId).containsExactly(second.getId(), third.getId());
+    }
+
+    @DisplayName("JUnit test for single statement update and delete operation")
+    @Test
+    public void givenEmployee_whenUpdateAndRemoveById_thenReturnAffectedRows() {
+        // given - precondition or setup
+        ReactiveEmployee employee = insert("Angel", "Cruz", "me@angelcruzl.dev");
+
+        // when - action or the behaviour that we are going test
+        Integer updated = employeeRepository.updateById(employee.getId(), "Ram", "Jadhav", "ram@gmail.com").block();
+        Integer missing = employeeRepository.updateById(employee.getId() + 1000, "Ram", "Jadhav", "ram@gmail.com").block();
+        ReactiveEmployee reloaded = employeeRepository.findById(employee.getId()).block();
+        Integer removed = employeeRepository.removeById(employee.getId()).block();
+
+        // then - verify the output
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isEqualTo(0);
+        assertThat(reloaded.getEmail()).isEqualTo("ram@gmail.com");
+        assertThat(removed).isEqualTo(1);
+        assertThat(employeeRepository.findById(employee.getId()).block()).isNull();
+    }
+
+    private ReactiveEmployee insert(String firstName, String lastName, String email) {
+        return idAllocator.nextId()
+                .flatMap(id -> entityTemplate.insert(ReactiveEmployee.builder()
+                        .id(id)
+                        .firstName(firstName)
+                        .lastName(lastName)
+                        .email(email)
+                        .build()))
+                .block();
+    }
+}
@@ -0,0 +1,228 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChange;
+import dev.angelcruzl.springboot.testing.dto.EmployeeChangePage;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.ResourceGoneException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeOutboxRepository;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeChangeFeedServiceImpl;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeOutbox;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeOutboxRelay;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// No test transaction: outbox entries are written just before a real commit, and the relay numbers committed ones
+@DataJpaTest(properties = "employee.outbox.relay.enabled=false")
+@Import({EmployeeServiceImpl.class, EmployeeOutbox.class, EmployeeOutboxRelay.class,
+        EmployeeChangeFeedServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmployeeChangeFeedServiceTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeChangeFeedService changeFeedService;
+
+    @Autowired
+    private EmployeeChangeFeedServiceImpl changeFeedServiceImpl;
+
+    @Autowired
+    private EmployeeOutboxRelay relay;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    @AfterEach
+    public void tearDown() {
+        changeFeedServiceImpl.stop();
+        employeeRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for getChanges method returning every committed write in order")
+    @Test
+    public void givenEmployeeWrites_whenPublishAndGetChanges_thenReturnContiguousChanges() {
+        // given - precondition or setup
+        long since = changeFeedService.getLatestSeq();
+        Employee employee = employeeService.saveEmployee(employee("me@angelcruzl.dev"));
+        employeeService.updateEmployees(EmployeeBulkRequest.builder()
+                .ids(List.of(employee.getId()))
+                .lastName("Lopez")
+                .build());
+        employeeService.deleteEmployee(employee.getId());
+        Assertions.assertThrows(DuplicateResourceException.class, () -> {
+            employeeService.saveEmployee(employee("taken@angelcruzl.dev"));
+            employeeService.saveEmployee(employee("taken@angelcruzl.dev"));
+        });
+
+        // when - action or the behaviour that we are going test
+        int published = relay.publish();
+        EmployeeChangePage page = changeFeedService.getChanges(since, 100);
+
+        // then - verify the output
+        assertThat(published).isEqualTo(4);
+        assertThat(page.getChanges()).extracting(EmployeeChange::getSeq)
+                .containsExactly(since + 1, since + 2, since + 3, since + 4);
+        assertThat(page.getChanges()).extracting(EmployeeChange::getType).containsExactly(
+                EmployeeChange.Type.SAVED, EmployeeChange.Type.RENAMED, EmployeeChange.Type.DELETED,
+                EmployeeChange.Type.SAVED);
+        assertThat(page.getChanges().get(1).getLastName()).isEqualTo("Lopez");
+        assertThat(page.getNext()).isEqualTo(since + 4);
+        assertThat(changeFeedService.getChanges(page.getNext(), 100).getChanges()).isEmpty();
+    }
+
+    @DisplayName("JUnit test for awaitChanges method completing a waiting consumer on publish")
+    @Test
+    public void givenWaitingConsumer_whenPublish_thenReturnNewChanges() throws Exception {
+        // given - precondition or setup
+        changeFeedServiceImpl.start();
+        long since = changeFeedService.getLatestSeq();
+        CompletableFuture<EmployeeChangePage> waiting = changeFeedService.awaitChanges(since, 100,
+                Duration.ofSeconds(10));
+        employeeService.saveEmployee(employee("me@angelcruzl.dev"));
+
+        // when - action or the behaviour that we are going test
+        relay.publish();
+
+        // then - verify the output
+        EmployeeChangePage page = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(page.getChanges()).extracting(EmployeeChange::getEmail).containsExactly("me@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for subscribe method streaming every subscriber the changes after its cursor")
+    @Test
+    public void givenSubscribersAtDifferentCursors_whenPublish_thenEachReceivesItsChanges() throws Exception {
+        // given - precondition or setup
+        changeFeedServiceImpl.start();
+        long since = changeFeedService.getLatestSeq();
+        employeeService.saveEmployee(employee("first@angelcruzl.dev"));
+        relay.publish();
+        RecordingSubscriber behind = new RecordingSubscriber();
+        RecordingSubscriber current = new RecordingSubscriber();
+        changeFeedService.subscribe(since, behind);
+        changeFeedService.subscribe(since + 1, current);
+
+        // when - action or the behaviour that we are going test
+        employeeService.saveEmployee(employee("second@angelcruzl.dev"));
+        relay.publish();
+
+        // then - verify the output
+        assertThat(behind.await(2)).extracting(EmployeeChange::getEmail)
+                .containsExactly("first@angelcruzl.dev", "second@angelcruzl.dev");
+        assertThat(current.await(1)).extracting(EmployeeChange::getEmail).containsExactly("second@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for subscribe method streaming to other subscribers while one is blocked")
+    @Test
+    public void givenBlockedSubscriber_whenPublish_thenOtherSubscribersStillReceive() throws Exception {
+        // given - precondition or setup
+        changeFeedServiceImpl.start();
+        long since = changeFeedService.getLatestSeq();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber blocked = new RecordingSubscriber() {
+            @Override
+            public void onChanges(List<EmployeeChange> changes) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onChanges(changes);
+            }
+        };
+        RecordingSubscriber reading = new RecordingSubscriber();
+        changeFeedService.subscribe(since, blocked);
+        changeFeedService.subscribe(since, reading);
+
+        // when - action or the behaviour that we are going test
+        employeeService.saveEmployee(employee("first@angelcruzl.dev"));
+        relay.publish();
+        List<EmployeeChange> first = List.copyOf(reading.await(1));
+        employeeService.saveEmployee(employee("second@angelcruzl.dev"));
+        relay.publish();
+        List<EmployeeChange> second = List.copyOf(reading.await(2));
+        release.countDown();
+
+        // then - verify the output
+        assertThat(first).extracting(EmployeeChange::getEmail).containsExactly("first@angelcruzl.dev");
+        assertThat(second).extracting(EmployeeChange::getEmail)
+                .containsExactly("first@angelcruzl.dev", "second@angelcruzl.dev");
+        assertThat(blocked.await(2)).extracting(EmployeeChange::getEmail)
+                .containsExactly("first@angelcruzl.dev", "second@angelcruzl.dev");
+    }
+
+    @DisplayName("JUnit test for getChanges method when the changes after the cursor were purged")
+    @Test
+    public void givenPurgedChanges_whenGetChanges_thenThrowsException() {
+        // given - precondition or setup
+        long since = changeFeedService.getLatestSeq();
+        employeeService.saveEmployee(employee("first@angelcruzl.dev"));
+        employeeService.saveEmployee(employee("second@angelcruzl.dev"));
+        relay.publish();
+        ReflectionTestUtils.setField(relay, "retention", Duration.ZERO);
+
+        // when - action or the behaviour that we are going test
+        int purged = relay.purge();
+
+        // then - verify the output
+        assertThat(purged).isEqualTo(1);
+        Assertions.assertThrows(ResourceGoneException.class,
+                () -> changeFeedService.getChanges(since, 100));
+        assertThat(changeFeedService.getChanges(since + 1, 100).getChanges()).hasSize(1);
+        assertThat(changeFeedService.getLatestSeq()).isEqualTo(since + 2);
+    }
+
+    private static class RecordingSubscriber implements EmployeeChangeSubscriber {
+        private final List<EmployeeChange> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onChanges(List<EmployeeChange> changes) {
+            received.addAll(changes);
+        }
+
+        @Override
+        public void onGone() {
+        }
+
+        List<EmployeeChange> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (received.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return received;
+        }
+    }
+
+    private static Employee employee(String email) {
+        return Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeImportStatus;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeImportServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private EmployeeImportServiceImpl service;
+
+    @DisplayName("JUnit test for CSV import with invalid and duplicate rows")
+    @Test
+    public void givenCsvWithInvalidAndDuplicateRows_whenImport_thenImportValidRowsAndReportRejects() throws Exception {
+        // given - precondition or setup
+        String csv = """
+                firstName,lastName,email,department
+                Angel,Cruz,me@angelcruzl.dev,IT
+                John,Doe,,IT
+                Jane,Doe,jane@doe.com,HR
+                Ram,Jadhav,me@angelcruzl.dev,HR
+                """;
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            return List.of(EmployeeBatchResult.created(0, 1L), EmployeeBatchResult.created(1, 2L),
+                    EmployeeBatchResult.duplicate(2, employees.get(2).getEmail()));
+        });
+
+        // when - action or the behaviour that we are going test
+        EmployeeImportStatus status = awaitCompletion(service.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.CSV));
+
+        // then - verify the output
+        assertThat(status.getState()).isEqualTo(EmployeeImportStatus.State.COMPLETED);
+        assertThat(status.getRowsRead()).isEqualTo(4L);
+        assertThat(status.getImported()).isEqualTo(2L);
+        assertThat(status.getRejected()).isEqualTo(2L);
+        List<String> rejects = Files.readAllLines(service.getRejectsFile(status.getId()).get());
+        assertThat(rejects.get(0)).isEqualTo("row,email,reason");
+        assertThat(rejects.contains("2,,\"email is required\"")).isTrue();
+        assertThat(rejects.contains("4,me@angelcruzl.dev,\"Employee with email me@angelcruzl.dev already exists\"")).isTrue();
+    }
+
+    @DisplayName("JUnit test for NDJSON import with a malformed line")
+    @Test
+    public void givenNdjsonWithMalformedLine_whenImport_thenRejectOnlyThatLine() throws Exception {
+        // given - precondition or setup
+        String ndjson = """
+                {"firstName":"Angel","lastName":"Cruz","email":"me@angelcruzl.dev"}
+                {"firstName":"John",
+
+                {"firstName":"Jane","lastName":"Doe","email":"jane@doe.com"}
+                """;
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> IntStream
+                .range(0, invocation.<List<Employee>>getArgument(0).size())
+                .mapToObj(i -> EmployeeBatchResult.created(i, (long) i))
+                .toList());
+
+        // when - action or the behaviour that we are going test
+        EmployeeImportStatus status = awaitCompletion(service.startImport(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.NDJSON));
+
+        // then - verify the output
+        assertThat(status.getState()).isEqualTo(EmployeeImportStatus.State.COMPLETED);
+        assertThat(status.getImported()).isEqualTo(2L);
+        assertThat(status.getRejected()).isEqualTo(1L);
+    }
+
+    @DisplayName("JUnit test for import larger than one chunk")
+    @Test
+    public void givenMoreRowsThanOneChunk_whenImport_thenWriteChunkByChunk() throws Exception {
+        // given - precondition or setup
+        String csv = "firstName,lastName,email\n" + IntStream.range(0, EmployeeImportServiceImpl.CHUNK_SIZE + 1)
+                .mapToObj(i -> "First" + i + ",Last" + i + ",employee" + i + "@example.com")
+                .collect(Collectors.joining("\n"));
+        List<Integer> chunkSizes = new ArrayList<>();
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            chunkSizes.add(employees.size());
+            return IntStream.range(0, employees.size()).mapToObj(i -> EmployeeBatchResult.created(i, (long) i)).toList();
+        });
+
+        // when - action or the behaviour that we are going test
+        EmployeeImportStatus status = awaitCompletion(service.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.CSV));
+
+        // then - verify the output
+        assertThat(status.getImported()).isEqualTo(EmployeeImportServiceImpl.CHUNK_SIZE + 1L);
+        verify(employeeService, times(2)).saveEmployees(anyList());
+        assertThat(chunkSizes.toString()).isEqualTo(List.of(EmployeeImportServiceImpl.CHUNK_SIZE, 1).toString());
+    }
+
+    @DisplayName("JUnit test for import when writing fails")
+    @Test
+    public void givenFailingWriter_whenImport_thenImportFails() throws Exception {
+        // given - precondition or setup
+        String csv = "firstName,lastName,email\nAngel,Cruz,me@angelcruzl.dev\n";
+        given(employeeService.saveEmployees(anyList())).willThrow(new IllegalStateException("database is down"));
+
+        // when - action or the behaviour that we are going test
+        EmployeeImportStatus status = awaitCompletion(service.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.CSV));
+
+        // then - verify the output
+        assertThat(status.getState()).isEqualTo(EmployeeImportStatus.State.FAILED);
+        assertThat(status.getError()).isEqualTo("database is down");
+    }
+
+    @DisplayName("JUnit test for import when reading fails while a chunk is being written")
+    @Test
+    public void givenBrokenCsvAfterFirstChunk_whenImport_thenFailOnceChunkIsWritten() throws Exception {
+        // given - precondition or setup
+        String csv = "firstName,lastName,email\n" + IntStream.range(0, EmployeeImportServiceImpl.CHUNK_SIZE)
+                .mapToObj(i -> "First" + i + ",Last" + i + ",employee" + i + "@example.com")
+                .collect(Collectors.joining("\n")) + "\n\"Broken,Row,broken@example.com\n";
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            // still saving when the reader hits the broken row
+            Thread.sleep(300);
+            List<EmployeeBatchResult> results = new ArrayList<>();
+            results.add(EmployeeBatchResult.duplicate(0, employees.get(0).getEmail()));
+            IntStream.range(1, employees.size()).forEach(i -> results.add(EmployeeBatchResult.created(i, (long) i)));
+            return results;
+        });
+
+        // when - action or the behaviour that we are going test
+        EmployeeImportStatus status = awaitCompletion(service.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), EmployeeImportService.Format.CSV));
+
+        // then - verify the output
+        assertThat(status.getState()).isEqualTo(EmployeeImportStatus.State.FAILED);
+        assertThat(status.getImported()).isEqualTo(EmployeeImportServiceImpl.CHUNK_SIZE - 1L);
+        assertThat(status.getRejected()).isEqualTo(1L);
+        List<String> rejects = Files.readAllLines(service.getRejectsFile(status.getId()).get());
+        assertThat(rejects.contains("1,employee0@example.com,\"Employee with email employee0@example.com already exists\""))
+                .isTrue();
+    }
+
+    private EmployeeImportStatus awaitCompletion(EmployeeImportStatus started) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        EmployeeImportStatus status = started;
+        while (status.getState() == EmployeeImportStatus.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = service.getImportStatus(started.getId()).get();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,126 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.config.CacheConfig;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig
+public class EmployeeServiceCacheTests {
+
+    // class proxies like Boot's: the service's event listeners are not on its interface
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import({CacheConfig.class, EmployeeServiceImpl.class})
+    static class Config {
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_BY_ID, CacheConfig.EMPLOYEES_BY_EMAIL);
+        }
+    }
+
+    @MockBean
+    private EmployeeRepository repository;
+
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        employee = Employee.builder()
+                .id(1L)
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+    }
+
+    @DisplayName("JUnit test for cached get employee by id operation")
+    @Test
+    public void givenCachedEmployee_whenGetEmployeeById_thenRepositoryIsCalledOnce() {
+        // given - precondition or setup
+        given(repository.findById(employee.getId())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going test
+        service.getEmployeeById(employee.getId());
+        Employee employeeDb = service.getEmployeeById(employee.getId()).get();
+
+        // then - verify the output
+        assertThat(employeeDb.getEmail()).isEqualTo(employee.getEmail());
+        verify(repository, times(1)).findById(employee.getId());
+    }
+
+    @DisplayName("JUnit test for cached get employee by email operation")
+    @Test
+    public void givenCachedEmployee_whenGetEmployeeByEmail_thenRepositoryIsCalledOnce() {
+        // given - precondition or setup
+        given(repository.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+
+        // when - action or the behaviour that we are going test
+        service.getEmployeeByEmail(employee.getEmail());
+        service.getEmployeeByEmail(employee.getEmail());
+
+        // then - verify the output
+        verify(repository, times(1)).findByEmail(employee.getEmail());
+    }
+
+    @DisplayName("JUnit test for misses not being cached")
+    @Test
+    public void givenMissingEmployee_whenGetEmployeeById_thenMissIsNotCached() {
+        // given - precondition or setup
+        given(repository.findById(employee.getId())).willReturn(Optional.empty());
+
+        // when - action or the behaviour that we are going test
+        service.getEmployeeById(employee.getId());
+        service.getEmployeeById(employee.getId());
+
+        // then - verify the output
+        verify(repository, times(2)).findById(employee.getId());
+    }
+
+    @DisplayName("JUnit test for cache eviction on delete employee operation")
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenNextReadHitsRepository() {
+        // given - precondition or setup
+        given(repository.findById(employee.getId())).willReturn(Optional.of(employee));
+        given(repository.removeById(employee.getId())).willReturn(1);
+        service.getEmployeeById(employee.getId());
+
+        // when - action or the behaviour that we are going test
+        service.deleteEmployee(employee.getId());
+        service.getEmployeeById(employee.getId());
+
+        // then - verify the output
+        verify(repository, times(2)).findById(employee.getId());
+    }
+
+}
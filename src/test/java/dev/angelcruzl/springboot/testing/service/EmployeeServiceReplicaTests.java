@@ -0,0 +1,109 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.config.CacheConfig;
+import dev.angelcruzl.springboot.testing.config.ReplicaLagMonitor;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// An H2 replica that never catches up: it keeps the row as it was before the update
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.r2dbc.url=r2dbc:h2:mem:///replica-r2dbc",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "employee.datasource.replicas[0].url=" + EmployeeServiceReplicaTests.REPLICA_URL,
+        "employee.datasource.replicas[0].username=sa",
+        "employee.datasource.replicas[0].password=",
+        "employee.outbox.relay.enabled=false"})
+public class EmployeeServiceReplicaTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-0;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService service;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private static JdbcTemplate replica;
+
+    // before the context starts, whose startup reads already go to the replica
+    @BeforeAll
+    public static void createReplica() {
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("CREATE TABLE IF NOT EXISTS employees (id BIGINT PRIMARY KEY, first_name VARCHAR(255), "
+                + "last_name VARCHAR(255), email VARCHAR(255), version BIGINT)");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        replicaLagMonitor.refresh();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replica.execute("DELETE FROM employees");
+        repository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @DisplayName("JUnit test for cached reads after a write while the replica still has the old row")
+    @Test
+    public void givenUpdateNotYetOnReplica_whenGetEmployee_thenReadAndCacheTheUpdate() {
+        // given - precondition or setup
+        Employee employee = service.saveEmployee(Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        replica.update("INSERT INTO employees VALUES (?, 'Angel', 'Cruz', 'me@angelcruzl.dev', 0)", employee.getId());
+        service.updateEmployee(Employee.builder()
+                .id(employee.getId())
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("me@angelcruzl.dev")
+                .build());
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> listed = service.getAllEmployees();
+        Employee byId = service.getEmployeeById(employee.getId()).orElseThrow();
+        Employee cachedById = service.getEmployeeById(employee.getId()).orElseThrow();
+        Employee cached = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(employee.getId(), Employee.class);
+        Employee byEmail = service.getEmployeeByEmail("me@angelcruzl.dev").orElseThrow();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        Employee looked = service.lookupEmployees(EmployeeLookupRequest.builder()
+                .emails(List.of("me@angelcruzl.dev"))
+                .build()).getEmployeesByEmail().get(0);
+
+        // then - verify the output
+        assertThat(listed).extracting(EmployeeView::getFirstName).containsExactly("Angel");
+        assertThat(byId.getFirstName()).isEqualTo("Luis");
+        assertThat(cachedById.getFirstName()).isEqualTo("Luis");
+        assertThat(cached.getFirstName()).isEqualTo("Luis");
+        assertThat(byEmail.getFirstName()).isEqualTo("Luis");
+        assertThat(looked.getFirstName()).isEqualTo("Luis");
+    }
+}
@@ -0,0 +1,116 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.config.HibernateCacheConfig;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// No test transaction, so the service's writes commit and its reads can only be answered by the second-level cache
+@DataJpaTest
+@Import({HibernateCacheConfig.class, EmployeeServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EmployeeServiceSecondLevelCacheTests {
+
+    @Autowired
+    private EmployeeService service;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    private Employee otherEmployee;
+
+    @BeforeEach
+    public void setUp() {
+        employee = repository.save(Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+        otherEmployee = repository.save(Employee.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+    }
+
+    @DisplayName("JUnit test for update employee operation keeping other employees in the entity cache")
+    @Test
+    public void givenCachedEmployees_whenUpdateEmployee_thenOnlyUpdatedEmployeeEvicted() {
+        // given - precondition or setup
+        service.getEmployeeById(employee.getId());
+        service.getEmployeeById(otherEmployee.getId());
+        Employee updatedEmployee = Employee.builder()
+                .id(employee.getId())
+                .firstName("Ram")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        service.updateEmployee(updatedEmployee);
+        statistics.clear();
+        Optional<Employee> cachedEmployee = service.getEmployeeById(otherEmployee.getId());
+        long statementsForOtherEmployee = statistics.getPrepareStatementCount();
+        Optional<Employee> reloadedEmployee = service.getEmployeeById(employee.getId());
+
+        // then - verify the output
+        assertThat(statementsForOtherEmployee).isEqualTo(0L);
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.EMPLOYEE_REGION).getHitCount())
+                .isEqualTo(1L);
+        assertThat(cachedEmployee.get().getFirstName()).isEqualTo("Luis");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(reloadedEmployee.get().getFirstName()).isEqualTo("Ram");
+    }
+
+    @DisplayName("JUnit test for delete employee operation keeping other employees in the entity cache")
+    @Test
+    public void givenCachedEmployees_whenDeleteEmployee_thenOtherEmployeeStillCached() {
+        // given - precondition or setup
+        service.getEmployeeById(employee.getId());
+        service.getEmployeeById(otherEmployee.getId());
+
+        // when - action or the behaviour that we are going test
+        service.deleteEmployee(employee.getId());
+        statistics.clear();
+        Optional<Employee> cachedEmployee = service.getEmployeeById(otherEmployee.getId());
+        Optional<Employee> deletedEmployee = service.getEmployeeById(employee.getId());
+
+        // then - verify the output
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.EMPLOYEE_REGION).getHitCount())
+                .isEqualTo(1L);
+        assertThat(cachedEmployee.isPresent()).isTrue();
+        assertThat(deletedEmployee.isPresent()).isFalse();
+    }
+}
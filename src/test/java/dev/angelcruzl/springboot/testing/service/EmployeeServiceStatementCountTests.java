@@ -0,0 +1,156 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EmployeeServiceImpl.class)
+public class EmployeeServiceStatementCountTests {
+
+    @Autowired
+    private EmployeeService service;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setUp() {
+        employee = repository.saveAndFlush(Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("JUnit test for statements issued by update employee operation")
+    @Test
+    public void givenEmployeeObject_whenUpdateEmployee_thenIssueSingleStatement() {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .id(employee.getId())
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        service.updateEmployee(updatedEmployee);
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("JUnit test for statements issued by update employee operation when employee does not exist")
+    @Test
+    public void givenMissingEmployee_whenUpdateEmployee_thenIssueSingleStatement() {
+        // given - precondition or setup
+        Employee missingEmployee = Employee.builder()
+                .id(employee.getId() + 1)
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> service.updateEmployee(missingEmployee));
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("JUnit test for statements issued by conditional update employee operation")
+    @Test
+    public void givenCurrentVersion_whenUpdateEmployee_thenIssueSingleStatement() {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder()
+                .id(employee.getId())
+                .firstName("Luis")
+                .lastName("Lara")
+                .email("luis@lara")
+                .version(employee.getVersion())
+                .build();
+
+        // when - action or the behaviour that we are going test
+        Employee result = service.updateEmployee(updatedEmployee);
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(result.getVersion()).isEqualTo(employee.getVersion() + 1);
+    }
+
+    @DisplayName("JUnit test for statements issued by a 500 id lookup")
+    @Test
+    public void givenFiveHundredIds_whenLookupEmployees_thenIssueSingleStatement() {
+        // given - precondition or setup
+        List<Long> ids = LongStream.range(employee.getId(), employee.getId() + 500).boxed().toList();
+
+        // when - action or the behaviour that we are going test
+        EmployeeLookupResult result = service.lookupEmployees(EmployeeLookupRequest.builder().ids(ids).build());
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(result.getEmployeesById().get(0).getEmail()).isEqualTo(employee.getEmail());
+        assertThat(result.getMissingIds().size()).isEqualTo(499);
+    }
+
+    @DisplayName("JUnit test for statements issued by delete employee operation")
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenIssueSingleStatement() {
+        // given - precondition or setup
+
+        // when - action or the behaviour that we are going test
+        service.deleteEmployee(employee.getId());
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(repository.existsById(employee.getId())).isFalse();
+    }
+
+    @DisplayName("JUnit test for statements issued by save employee operation when email already exists")
+    @Test
+    public void givenExistingEmail_whenSaveEmployee_thenThrowDuplicateWithoutPreCheck() {
+        // given - precondition or setup
+        Employee duplicate = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(employee.getEmail())
+                .build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(DuplicateResourceException.class, () -> service.saveEmployee(duplicate));
+
+        // then - verify the output
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+}
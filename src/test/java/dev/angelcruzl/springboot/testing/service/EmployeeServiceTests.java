@@ -1,9 +1,29 @@
 package dev.angelcruzl.springboot.testing.service;
 
+import dev.angelcruzl.springboot.testing.config.CacheConfig;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBulkResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeFilter;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupRequest;
+import dev.angelcruzl.springboot.testing.dto.EmployeeLookupResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeePage;
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesRenamedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.exception.BadRequestException;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.PreconditionFailedException;
 import dev.angelcruzl.springboot.testing.exception.ResourceNotFoundException;
 import dev.angelcruzl.springboot.testing.model.Employee;
 import dev.angelcruzl.springboot.testing.repository.EmployeeRepository;
 import dev.angelcruzl.springboot.testing.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +32,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +68,15 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private EmployeeServiceImpl service;
 
@@ -47,9 +96,7 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject() {
         // given - precondition or setup
-        given(repository.findByEmail(employee.getEmail())).willReturn(Optional.empty());
-
-        given(repository.save(employee)).willReturn(employee);
+        given(repository.saveAndFlush(employee)).willReturn(employee);
 
         // when - action or the behaviour that we are going test
         Employee savedEmployee = service.saveEmployee(employee);
@@ -60,33 +107,118 @@ public class EmployeeServiceTests {
 
     @DisplayName("JUnit test for save employee operation when employee already exists")
     @Test
-    public void givenEmployeeObject_whenSaveEmployee_thenThrowResourceNotFoundException() {
+    public void givenEmployeeObject_whenSaveEmployee_thenThrowDuplicateResourceException() {
         // given - precondition or setup
-        given(repository.findByEmail(employee.getEmail())).willReturn(Optional.of(employee));
+        given(repository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("duplicate email",
+                new ConstraintViolationException("duplicate email", new SQLException(), "PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_A")));
 
         // when - action or the behaviour that we are going test
-        Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+        Assertions.assertThrows(DuplicateResourceException.class, () -> {
             service.saveEmployee(employee);
         });
 
         // then - verify the output
-        verify(repository, never()).save(any(Employee.class));
+        verify(repository, never()).findByEmail(employee.getEmail());
     }
 
-    @DisplayName("JUnit test for get all employees operation")
+    @DisplayName("JUnit test for save employee operation when another constraint fails")
     @Test
-    public void givenEmployeesList_whenGetAllEmployees_thenReturnEmployeesList() {
+    public void givenEmployeeWithoutEmail_whenSaveEmployee_thenRethrowDataIntegrityViolation() {
         // given - precondition or setup
-        Employee employee2 = Employee.builder()
-                .id(2L)
+        employee.setEmail(null);
+        given(repository.saveAndFlush(employee)).willThrow(new DataIntegrityViolationException("null email",
+                new ConstraintViolationException("null email", new SQLException(), null)));
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> {
+            service.saveEmployee(employee);
+        });
+    }
+
+    @DisplayName("JUnit test for batch save employees operation")
+    @Test
+    public void givenEmployeesWithDuplicateEmails_whenSaveEmployees_thenReturnPerRowResults() {
+        // given - precondition or setup
+        Employee existing = Employee.builder()
                 .firstName("John")
                 .lastName("Doe")
                 .email("john@doe")
                 .build();
-        given(repository.findAll()).willReturn(List.of(employee, employee2));
+        Employee repeated = Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email(employee.getEmail())
+                .build();
+        employee.setId(null);
+
+        given(repository.findExistingEmails(anyList())).willReturn(Set.of("john@doe"));
+        given(repository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            List<Employee> batch = invocation.getArgument(0);
+            batch.forEach(e -> e.setId(10L));
+            return batch;
+        });
 
         // when - action or the behaviour that we are going test
-        List<Employee> employeeList = service.getAllEmployees();
+        List<EmployeeBatchResult> results = service.saveEmployees(List.of(employee, existing, repeated));
+
+        // then - verify the output
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(results.get(0).getStatus()).isEqualTo(EmployeeBatchResult.Status.CREATED);
+        assertThat(results.get(0).getId()).isEqualTo(10L);
+        assertThat(results.get(1).getStatus()).isEqualTo(EmployeeBatchResult.Status.DUPLICATE);
+        assertThat(results.get(2).getStatus()).isEqualTo(EmployeeBatchResult.Status.DUPLICATE);
+        verify(repository, times(1)).findExistingEmails(anyList());
+        verify(repository, times(1)).saveAllAndFlush(List.of(employee));
+    }
+
+    @DisplayName("JUnit test for batch save employees operation with differently cased and missing emails")
+    @Test
+    public void givenCaseVariantAndNullEmails_whenSaveEmployees_thenRejectThoseRows() {
+        // given - precondition or setup
+        Employee existing = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("John@Doe")
+                .build();
+        Employee repeated = Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email(employee.getEmail().toUpperCase())
+                .build();
+        Employee withoutEmail = Employee.builder()
+                .firstName("Luis")
+                .lastName("Lara")
+                .build();
+        employee.setId(null);
+
+        given(repository.findExistingEmails(anyList())).willReturn(Set.of("john@doe"));
+        given(repository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            List<Employee> batch = invocation.getArgument(0);
+            batch.forEach(e -> e.setId(10L));
+            return batch;
+        });
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeBatchResult> results = service.saveEmployees(List.of(employee, existing, repeated, withoutEmail));
+
+        // then - verify the output
+        assertThat(results.get(0).getStatus()).isEqualTo(EmployeeBatchResult.Status.CREATED);
+        assertThat(results.get(1).getStatus()).isEqualTo(EmployeeBatchResult.Status.DUPLICATE);
+        assertThat(results.get(2).getStatus()).isEqualTo(EmployeeBatchResult.Status.DUPLICATE);
+        assertThat(results.get(3).getStatus()).isEqualTo(EmployeeBatchResult.Status.INVALID);
+        verify(repository, times(1)).saveAllAndFlush(List.of(employee));
+    }
+
+    @DisplayName("JUnit test for get all employees operation")
+    @Test
+    public void givenEmployeesList_whenGetAllEmployees_thenReturnEmployeesList() {
+        // given - precondition or setup
+        given(repository.findAllViews()).willReturn(List.of(
+                new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(2L, "John", "Doe", "john@doe")));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> employeeList = service.getAllEmployees();
 
         // then - verify the output
         assertThat(employeeList).isNotNull();
@@ -97,17 +229,73 @@ public class EmployeeServiceTests {
     @Test
     public void givenNoEmployees_whenGetAllEmployees_thenReturnEmptyList() {
         // given - precondition or setup
-        given(repository.findAll()).willReturn(List.of());
-        given(repository.findAll()).willReturn(Collections.emptyList());
+        given(repository.findAllViews()).willReturn(Collections.emptyList());
 
         // when - action or the behaviour that we are going test
-        List<Employee> employeeList = service.getAllEmployees();
+        List<EmployeeView> employeeList = service.getAllEmployees();
 
         // then - verify the output
         assertThat(employeeList).isNotNull();
         assertThat(employeeList.size()).isEqualTo(0);
     }
 
+    @DisplayName("JUnit test for get all employee fields operation")
+    @Test
+    public void givenKnownFields_whenGetAllEmployeeFields_thenSelectDistinctFields() {
+        // given - precondition or setup
+        given(repository.findAllFields(List.of("id", "email")))
+                .willReturn(List.of(Map.of("id", 1L, "email", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        List<Map<String, Object>> rows = service.getAllEmployeeFields(List.of("id", "email", "id"));
+
+        // then - verify the output
+        assertThat(rows.size()).isEqualTo(1);
+        verify(repository, times(1)).findAllFields(List.of("id", "email"));
+    }
+
+    @DisplayName("JUnit test for get all employee fields operation with an unknown field")
+    @Test
+    public void givenUnknownField_whenGetAllEmployeeFields_thenThrowsBadRequest() {
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class,
+                () -> service.getAllEmployeeFields(List.of("id", "salary")));
+
+        // then - verify the output
+        verify(repository, never()).findAllFields(any());
+    }
+
+    @DisplayName("JUnit test for get employees page operation when more rows remain")
+    @Test
+    public void givenMoreRowsThanLimit_whenGetEmployeesPage_thenReturnPageWithNextCursor() {
+        // given - precondition or setup
+        given(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).willReturn(List.of(
+                new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(2L, "John", "Doe", "john@doe")));
+
+        // when - action or the behaviour that we are going test
+        EmployeePage<EmployeeView> page = service.getEmployeesPage(null, 1);
+
+        // then - verify the output
+        assertThat(page.getContent().size()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isEqualTo(employee.getId());
+    }
+
+    @DisplayName("JUnit test for get employees page operation on the last page")
+    @Test
+    public void givenFewerRowsThanLimit_whenGetEmployeesPage_thenReturnPageWithoutNextCursor() {
+        // given - precondition or setup
+        given(repository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(11)))
+                .willReturn(List.of(new EmployeeView(2L, "John", "Doe", "john@doe")));
+
+        // when - action or the behaviour that we are going test
+        EmployeePage<EmployeeView> page = service.getEmployeesPage(1L, 10);
+
+        // then - verify the output
+        assertThat(page.getContent().size()).isEqualTo(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
     @DisplayName("JUnit test for get employee by id operation")
     @Test
     public void givenEmployeeId_whenGetEmployeeById_thenReturnEmployeeObject() {
@@ -125,10 +313,9 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenUpdateEmployee_thenReturnUpdatedEmployeeObject() {
         // given - precondition or setup
-        given(repository.findById(employee.getId())).willReturn(Optional.of(employee));
-        given(repository.save(employee)).willReturn(employee);
         employee.setFirstName("Luis");
         employee.setLastName("Lara");
+        given(repository.updateById(employee.getId(), "Luis", "Lara", employee.getEmail())).willReturn(1);
 
         // when - action or the behaviour that we are going test
         Employee updatedEmployee = service.updateEmployee(employee);
@@ -142,7 +329,8 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenUpdateEmployee_thenThrowResourceNotFoundException() {
         // given - precondition or setup
-        given(repository.findById(employee.getId())).willReturn(Optional.empty());
+        given(repository.updateById(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail()))
+                .willReturn(0);
 
         // when - action or the behaviour that we are going test
         Assertions.assertThrows(ResourceNotFoundException.class, () -> {
@@ -150,33 +338,392 @@ public class EmployeeServiceTests {
         });
 
         // then - verify the output
+        verify(repository, never()).findById(employee.getId());
         verify(repository, never()).save(any(Employee.class));
     }
 
+    @DisplayName("JUnit test for conditional update employee operation")
+    @Test
+    public void givenCurrentVersion_whenUpdateEmployee_thenReturnNextVersion() {
+        // given - precondition or setup
+        employee.setVersion(3L);
+        given(repository.updateByIdAndVersion(employee.getId(), 3L, employee.getFirstName(), employee.getLastName(),
+                employee.getEmail())).willReturn(1);
+
+        // when - action or the behaviour that we are going test
+        Employee updatedEmployee = service.updateEmployee(employee);
+
+        // then - verify the output
+        assertThat(updatedEmployee.getVersion()).isEqualTo(4L);
+        verify(repository, never()).updateById(any(), any(), any(), any());
+        verify(repository, never()).existsById(any());
+    }
+
+    @DisplayName("JUnit test for conditional update employee operation with a stale version")
+    @Test
+    public void givenStaleVersion_whenUpdateEmployee_thenThrowPreconditionFailedException() {
+        // given - precondition or setup
+        employee.setVersion(2L);
+        given(repository.updateByIdAndVersion(employee.getId(), 2L, employee.getFirstName(), employee.getLastName(),
+                employee.getEmail())).willReturn(0);
+        given(repository.existsById(employee.getId())).willReturn(true);
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(PreconditionFailedException.class, () -> service.updateEmployee(employee));
+
+        // then - verify the output
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @DisplayName("JUnit test for conditional update employee operation when employee does not exist")
+    @Test
+    public void givenVersionOfMissingEmployee_whenUpdateEmployee_thenThrowResourceNotFoundException() {
+        // given - precondition or setup
+        employee.setVersion(2L);
+        given(repository.updateByIdAndVersion(employee.getId(), 2L, employee.getFirstName(), employee.getLastName(),
+                employee.getEmail())).willReturn(0);
+        given(repository.existsById(employee.getId())).willReturn(false);
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> service.updateEmployee(employee));
+
+        // then - verify the output
+        verify(repository, never()).findById(employee.getId());
+    }
+
     @DisplayName("JUnit test for delete employee operation")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenVerifyDeleteMethodIsCalled() {
         // given - precondition or setup
-        given(repository.findById(employee.getId())).willReturn(Optional.of(employee));
+        given(repository.removeById(employee.getId())).willReturn(1);
 
         // when - action or the behaviour that we are going test
         service.deleteEmployee(employee.getId());
 
         // then - verify the output
-        verify(repository, times(1)).deleteById(employee.getId());
+        verify(repository, times(1)).removeById(employee.getId());
+        verify(repository, never()).findById(employee.getId());
+        verify(eventPublisher).publishEvent(new EmployeesDeletedEvent(List.of(employee.getId())));
     }
 
     @DisplayName("JUnit test for delete employee operation when employee does not exist")
     @Test
     public void givenEmployeeId_whenDeleteEmployee_thenThrowResourceNotFoundException() {
         // given - precondition or setup
-        given(repository.findById(employee.getId())).willReturn(Optional.empty());
+        given(repository.removeById(employee.getId())).willReturn(0);
 
         // when - action or the behaviour that we are going test
         Assertions.assertThrows(ResourceNotFoundException.class, () -> service.deleteEmployee(employee.getId()));
 
         // then - verify the output
-        verify(repository, never()).deleteById(employee.getId());
+        verify(repository, times(1)).removeById(employee.getId());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
+    @DisplayName("JUnit test for bulk delete operation by ids")
+    @Test
+    public void givenMoreIdsThanOneChunk_whenDeleteEmployees_thenDeleteChunkByChunk() {
+        // given - precondition or setup
+        List<Long> ids = LongStream.rangeClosed(1, EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE + 5).boxed().toList();
+        given(repository.removeByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when - action or the behaviour that we are going test
+        EmployeeBulkResult result = service.deleteEmployees(EmployeeBulkRequest.builder().ids(ids).build());
+
+        // then - verify the output
+        assertThat(result.getAffected()).isEqualTo((long) ids.size());
+        verify(repository, times(2)).removeByIds(anyList());
+        verify(repository, never()).findIdsByFilter(any(), any(), any(), any());
+    }
+
+    @DisplayName("JUnit test for bulk update operation by filter")
+    @Test
+    public void givenFilter_whenUpdateEmployees_thenUpdateMatchingIdsInKeysetChunks() {
+        // given - precondition or setup
+        int chunk = EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE;
+        List<Long> firstChunk = LongStream.rangeClosed(1, chunk).boxed().toList();
+        List<Long> lastChunk = List.of(chunk + 10L, chunk + 20L);
+        given(repository.findIdsByFilter(0L, "angelcruzl.dev", null, Limit.of(chunk))).willReturn(firstChunk);
+        given(repository.findIdsByFilter((long) chunk, "angelcruzl.dev", null, Limit.of(chunk))).willReturn(lastChunk);
+        given(repository.updateNamesByIds(anyList(), any(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when - action or the behaviour that we are going test
+        EmployeeBulkResult result = service.updateEmployees(EmployeeBulkRequest.builder()
+                .filter(new EmployeeFilter("angelcruzl.dev", null))
+                .lastName("Lopez")
+                .build());
+
+        // then - verify the output
+        assertThat(result.getAffected()).isEqualTo(chunk + 2L);
+        verify(repository, times(1)).updateNamesByIds(firstChunk, null, "Lopez");
+        verify(repository, times(1)).updateNamesByIds(lastChunk, null, "Lopez");
+    }
+
+    @DisplayName("JUnit test for bulk operations without a selection")
+    @Test
+    public void givenNoIdsAndEmptyFilter_whenDeleteEmployees_thenThrowsBadRequest() {
+        // given - precondition or setup
+        EmployeeBulkRequest request = EmployeeBulkRequest.builder().filter(new EmployeeFilter()).build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class, () -> service.deleteEmployees(request));
+
+        // then - verify the output
+        verify(repository, never()).removeByIds(anyList());
+    }
+
+    @DisplayName("JUnit test for bulk operations with a blank email domain")
+    @Test
+    public void givenBlankEmailDomain_whenDeleteEmployees_thenThrowsBadRequest() {
+        // given - precondition or setup
+        EmployeeBulkRequest request = EmployeeBulkRequest.builder().filter(new EmployeeFilter(" ", null)).build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class, () -> service.deleteEmployees(request));
+
+        // then - verify the output
+        verify(repository, never()).findIdsByFilter(any(), any(), any(), any());
+        verify(repository, never()).removeByIds(anyList());
+    }
+
+    @DisplayName("JUnit test for bulk update operation without new values")
+    @Test
+    public void givenNoNewValues_whenUpdateEmployees_thenThrowsBadRequest() {
+        // given - precondition or setup
+        EmployeeBulkRequest request = EmployeeBulkRequest.builder().ids(List.of(1L)).build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class, () -> service.updateEmployees(request));
+
+        // then - verify the output
+        verify(repository, never()).updateNamesByIds(anyList(), any(), any());
+    }
+
+    @DisplayName("JUnit test for search operation with an oversized limit")
+    @Test
+    public void givenOversizedLimit_whenSearchEmployees_thenClampLimit() {
+        // given - precondition or setup
+        given(repository.search(any(EmployeeSearchCriteria.class)))
+                .willReturn(List.of(new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev")));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> employees = service.searchEmployees(EmployeeSearchCriteria.builder()
+                .lastName("Cr")
+                .sort("lastName")
+                .limit(1_000_000)
+                .build());
+
+        // then - verify the output
+        assertThat(employees.size()).isEqualTo(1);
+        verify(repository).search(argThat(criteria -> criteria.getLimit() == EmployeeServiceImpl.MAX_PAGE_SIZE
+                && "Cr".equals(criteria.getLastName()) && "lastName".equals(criteria.getSort())));
+    }
+
+    @DisplayName("JUnit test for search operation with an unknown sort")
+    @Test
+    public void givenUnknownSort_whenSearchEmployees_thenThrowsBadRequest() {
+        // given - precondition or setup
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().sort("salary").build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class, () -> service.searchEmployees(criteria));
+
+        // then - verify the output
+        verify(repository, never()).search(any());
+    }
+
+    @DisplayName("JUnit test for bulk update operation publishing one event per chunk")
+    @Test
+    public void givenMoreIdsThanOneChunk_whenUpdateEmployees_thenPublishRenamedEventPerChunk() {
+        // given - precondition or setup
+        List<Long> ids = LongStream.rangeClosed(1, EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE + 5).boxed().toList();
+        given(repository.updateNamesByIds(anyList(), any(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when - action or the behaviour that we are going test
+        service.updateEmployees(EmployeeBulkRequest.builder().ids(ids).lastName("Cruz").build());
+
+        // then - verify the output
+        verify(eventPublisher).publishEvent(
+                new EmployeesRenamedEvent(ids.subList(0, EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE), null, "Cruz"));
+        verify(eventPublisher).publishEvent(
+                new EmployeesRenamedEvent(ids.subList(EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE, ids.size()), null, "Cruz"));
+    }
+
+    @DisplayName("JUnit test for lookup operation serving cached employees and loading the rest in bulk")
+    @Test
+    public void givenCachedAndUncachedKeys_whenLookupEmployees_thenLoadMissesOnceInRequestOrder() {
+        // given - precondition or setup
+        Employee cached = Employee.builder().id(1L).firstName("Angel").lastName("Cruz").email("me@angelcruzl.dev").build();
+        Employee loaded = Employee.builder().id(3L).firstName("John").lastName("Cena").email("john@cena.com").build();
+        ConcurrentMapCache byId = new ConcurrentMapCache(CacheConfig.EMPLOYEES_BY_ID);
+        ConcurrentMapCache byEmail = new ConcurrentMapCache(CacheConfig.EMPLOYEES_BY_EMAIL);
+        byId.put(1L, cached);
+        given(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID)).willReturn(byId);
+        given(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL)).willReturn(byEmail);
+        given(repository.loadAllById(List.of(3L, 2L), EmployeeServiceImpl.IN_CLAUSE_CHUNK_SIZE))
+                .willReturn(Arrays.asList(loaded, null));
+        given(repository.findByEmailIn(List.of("john@cena.com", "nobody@company.com"))).willReturn(List.of(loaded));
+
+        // when - action or the behaviour that we are going test
+        EmployeeLookupResult result = service.lookupEmployees(EmployeeLookupRequest.builder()
+                .ids(List.of(3L, 1L, 2L, 3L))
+                .emails(List.of("john@cena.com", "nobody@company.com"))
+                .build());
+
+        // then - verify the output
+        assertThat(result.getEmployeesById()).isEqualTo(Arrays.asList(loaded, cached, null, loaded));
+        assertThat(result.getEmployeesByEmail()).isEqualTo(Arrays.asList(loaded, null));
+        assertThat(result.getMissingIds()).isEqualTo(List.of(2L));
+        assertThat(result.getMissingEmails()).isEqualTo(List.of("nobody@company.com"));
+        assertThat(byId.get(3L, Employee.class)).isEqualTo(loaded);
+        verify(repository, never()).findById(any());
+    }
+
+    @DisplayName("JUnit test for lookup operation by emails that differ from the stored ones in case")
+    @Test
+    public void givenEmailsInOtherCase_whenLookupEmployees_thenMatchStoredEmails() {
+        // given - precondition or setup
+        given(repository.findByEmailIn(List.of("ME@angelcruzl.dev", "Me@AngelCruzl.dev"))).willReturn(List.of(employee));
+
+        // when - action or the behaviour that we are going test
+        EmployeeLookupResult result = service.lookupEmployees(EmployeeLookupRequest.builder()
+                .emails(List.of("ME@angelcruzl.dev", "Me@AngelCruzl.dev"))
+                .build());
+
+        // then - verify the output
+        assertThat(result.getEmployeesByEmail()).isEqualTo(List.of(employee, employee));
+        assertThat(result.getMissingEmails()).isEqualTo(List.of());
+    }
+
+    @DisplayName("JUnit test for lookup operation with too many keys")
+    @Test
+    public void givenTooManyKeys_whenLookupEmployees_thenThrowsBadRequest() {
+        // given - precondition or setup
+        List<Long> ids = LongStream.rangeClosed(1, EmployeeServiceImpl.MAX_LOOKUP_SIZE).boxed().toList();
+        EmployeeLookupRequest request = EmployeeLookupRequest.builder().ids(ids).emails(List.of("me@angelcruzl.dev")).build();
+
+        // when - action or the behaviour that we are going test
+        Assertions.assertThrows(BadRequestException.class, () -> service.lookupEmployees(request));
+
+        // then - verify the output
+        verify(repository, never()).loadAllById(anyList(), anyInt());
+    }
+
+    @DisplayName("JUnit test for get employee by id operation sharing one query between concurrent callers")
+    @Test
+    public void givenConcurrentReadsOfSameId_whenGetEmployeeById_thenQueryOnce() throws Exception {
+        // given - precondition or setup
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        service.startLookupCoalescing();
+        CountDownLatch release = new CountDownLatch(1);
+        given(repository.findById(1L)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(employee);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when - action or the behaviour that we are going test
+            Future<Optional<Employee>> leader = executor.submit(() -> readOnly(() -> service.getEmployeeById(1L)));
+            verify(repository, timeout(5000)).findById(1L);
+            Future<Optional<Employee>> follower = executor.submit(() -> readOnly(() -> service.getEmployeeById(1L)));
+            FunctionCounter coalesced = meterRegistry.get("employee.lookup.coalesced").tag("key", "id").functionCounter();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced.count() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then - verify the output
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(employee));
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(employee));
+            assertThat(coalesced.count()).isEqualTo(1.0);
+            verify(repository, times(1)).findById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("JUnit test for get employee by id operation after a write committed during a shared query")
+    @Test
+    public void givenWriteDuringLoad_whenGetEmployeeById_thenLoadAgainAndCacheOnlyTheNewRow() throws Exception {
+        // given - precondition or setup
+        ConcurrentMapCache byId = new ConcurrentMapCache(CacheConfig.EMPLOYEES_BY_ID);
+        given(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID)).willReturn(byId);
+        Employee updated = Employee.builder()
+                .id(1L)
+                .firstName("Luis")
+                .lastName("Cruz")
+                .email("me@angelcruzl.dev")
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        given(repository.findById(1L)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(employee);
+        }).willReturn(Optional.of(updated));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Optional<Employee>> before = executor.submit(() -> readOnly(() -> service.getEmployeeById(1L)));
+            verify(repository, timeout(5000)).findById(1L);
+
+            // when - action or the behaviour that we are going test
+            service.onSaved(new EmployeesSavedEvent(List.of(new EmployeeView(1L, "Luis", "Cruz", "me@angelcruzl.dev"))));
+            Optional<Employee> after = readOnly(() -> service.getEmployeeById(1L));
+            release.countDown();
+
+            // then - verify the output
+            assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(employee));
+            assertThat(after).isEqualTo(Optional.of(updated));
+            assertThat(byId.get(1L, Employee.class)).isEqualTo(updated);
+            verify(repository, times(2)).findById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("JUnit test for get employee by id operation batching concurrent misses into one query")
+    @Test
+    public void givenBatchWindow_whenGetEmployeeByIdConcurrently_thenLoadAllInOneQuery() throws Exception {
+        // given - precondition or setup
+        Employee other = Employee.builder()
+                .id(2L)
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@wwe.com")
+                .build();
+        ReflectionTestUtils.setField(service, "batchWindowMillis", 200L);
+        service.startLookupCoalescing();
+        given(repository.findAllById(any())).willReturn(List.of(employee, other));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            // when - action or the behaviour that we are going test
+            Future<Optional<Employee>> first = executor.submit(() -> readOnly(() -> service.getEmployeeById(1L)));
+            Future<Optional<Employee>> second = executor.submit(() -> readOnly(() -> service.getEmployeeById(2L)));
+            Future<Optional<Employee>> missing = executor.submit(() -> readOnly(() -> service.getEmployeeById(3L)));
+
+            // then - verify the output
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(employee));
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(other));
+            assertThat(missing.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.empty());
+            verify(repository, times(1)).findAllById(any());
+            verify(repository, never()).findById(any());
+        } finally {
+            executor.shutdownNow();
+            service.stopLookupCoalescing();
+        }
+    }
+
+    private static <T> T readOnly(Callable<T> read) throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return read.call();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
 }
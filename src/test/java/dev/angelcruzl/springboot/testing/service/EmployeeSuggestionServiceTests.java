@@ -0,0 +1,151 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import dev.angelcruzl.springboot.testing.dto.EmployeeSearchCriteria;
+import dev.angelcruzl.springboot.testing.dto.EmployeeView;
+import dev.angelcruzl.springboot.testing.event.EmployeesDeletedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesRenamedEvent;
+import dev.angelcruzl.springboot.testing.event.EmployeesSavedEvent;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeSuggestionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSuggestionServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeSuggestionServiceImpl suggestionService;
+
+    private List<EmployeeView> employees;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(suggestionService, "maxEmployees", 100);
+        employees = List.of(
+                new EmployeeView(1L, "Angel", "Cruz", "me@angelcruzl.dev"),
+                new EmployeeView(2L, "Angela", "Martinez", "angela@company.com"),
+                new EmployeeView(3L, "John", "Cruzado", "john.cruzado@company.com"));
+        // lenient: tests that need a different scan stub their own
+        lenient().doAnswer(invocation -> {
+            employees.forEach(invocation.<Consumer<EmployeeView>>getArgument(0));
+            return null;
+        }).when(employeeService).forEachEmployee(any());
+    }
+
+    @DisplayName("JUnit test for suggest operation matching the start of any word")
+    @Test
+    public void givenIndexedEmployees_whenSuggest_thenReturnWordPrefixMatches() {
+        // given - precondition or setup
+        suggestionService.rebuild();
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> byName = suggestionService.suggest("ANG", 10);
+        List<EmployeeView> byEmailWord = suggestionService.suggest("company", 10);
+        List<EmployeeView> byTwoWords = suggestionService.suggest("ang cr", 10);
+        List<EmployeeView> limited = suggestionService.suggest("cruz", 1);
+
+        // then - verify the output
+        assertThat(ids(byName)).isEqualTo(List.of(1L, 2L));
+        assertThat(ids(byEmailWord)).isEqualTo(List.of(2L, 3L));
+        assertThat(ids(byTwoWords)).isEqualTo(List.of(1L));
+        assertThat(limited.size()).isEqualTo(1);
+        verify(employeeService, never()).searchEmployees(any());
+    }
+
+    @DisplayName("JUnit test for suggest operation after write events")
+    @Test
+    public void givenWriteEvents_whenSuggest_thenReflectLatestValues() {
+        // given - precondition or setup
+        suggestionService.rebuild();
+
+        // when - action or the behaviour that we are going test
+        suggestionService.onSaved(new EmployeesSavedEvent(List.of(new EmployeeView(1L, "Angel", "Lopez", "me@angelcruzl.dev"))));
+        suggestionService.onRenamed(new EmployeesRenamedEvent(List.of(3L), null, "Smith"));
+        suggestionService.onDeleted(new EmployeesDeletedEvent(List.of(2L)));
+
+        // then - verify the output
+        assertThat(ids(suggestionService.suggest("lop", 10))).isEqualTo(List.of(1L));
+        assertThat(ids(suggestionService.suggest("cruz", 10))).isEqualTo(List.of(3L));
+        assertThat(suggestionService.suggest("john smi", 10).get(0).getFirstName()).isEqualTo("John");
+        assertThat(ids(suggestionService.suggest("angela", 10))).isEqualTo(List.of());
+    }
+
+    @DisplayName("JUnit test for suggest operation once the index is over capacity")
+    @Test
+    public void givenMoreEmployeesThanCapacity_whenSuggest_thenSearchDatabase() {
+        // given - precondition or setup
+        ReflectionTestUtils.setField(suggestionService, "maxEmployees", 1);
+        AtomicInteger scanned = new AtomicInteger();
+        willAnswer(invocation -> {
+            Consumer<EmployeeView> action = invocation.getArgument(0);
+            employees.forEach(employee -> {
+                scanned.incrementAndGet();
+                action.accept(employee);
+            });
+            return null;
+        }).given(employeeService).forEachEmployee(any());
+        suggestionService.rebuild();
+        given(employeeService.searchEmployees(any(EmployeeSearchCriteria.class))).willReturn(List.of(employees.get(0)));
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeView> suggestions = suggestionService.suggest("cru", 10);
+        suggestionService.onSaved(new EmployeesSavedEvent(List.of(new EmployeeView(4L, "Ana", "Cruz", "ana@company.com"))));
+
+        // then - verify the output
+        assertThat(scanned.get()).isEqualTo(2);
+        assertThat(ReflectionTestUtils.getField(suggestionService, "employees").toString()).isEqualTo("{}");
+        assertThat(ReflectionTestUtils.getField(suggestionService, "keys").toString()).isEqualTo("[]");
+        assertThat(ids(suggestions)).isEqualTo(List.of(1L));
+        verify(employeeService).searchEmployees(argThat(criteria -> "Cru".equals(criteria.getLastName())
+                && "lastName".equals(criteria.getSort()) && criteria.getLimit() == 10));
+    }
+
+    @DisplayName("JUnit test for suggest operation after a rename of a row the rebuild had not read yet")
+    @Test
+    public void givenRenameDuringRebuild_whenSuggest_thenIndexRenamedValues() {
+        // given - precondition or setup
+        willAnswer(invocation -> {
+            Consumer<EmployeeView> action = invocation.getArgument(0);
+            action.accept(employees.get(0));
+            // committed while the scan is between rows, the cursor still returns the old row 3
+            suggestionService.onRenamed(new EmployeesRenamedEvent(List.of(3L), null, "Smith"));
+            suggestionService.onRenamed(new EmployeesRenamedEvent(List.of(3L), "Johnny", null));
+            action.accept(employees.get(1));
+            action.accept(employees.get(2));
+            return null;
+        }).given(employeeService).forEachEmployee(any());
+
+        // when - action or the behaviour that we are going test
+        suggestionService.rebuild();
+
+        // then - verify the output
+        List<EmployeeView> suggestions = suggestionService.suggest("johnny smith", 10);
+        assertThat(ids(suggestions)).isEqualTo(List.of(3L));
+        assertThat(suggestions.get(0).getLastName()).isEqualTo("Smith");
+    }
+
+    private static List<Long> ids(List<EmployeeView> employees) {
+        return employees.stream().map(EmployeeView::getId).toList();
+    }
+}
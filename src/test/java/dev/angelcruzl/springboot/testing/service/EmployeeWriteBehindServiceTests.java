@@ -0,0 +1,237 @@
+package dev.angelcruzl.springboot.testing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.angelcruzl.springboot.testing.dto.EmployeeBatchResult;
+import dev.angelcruzl.springboot.testing.dto.EmployeeWriteStatus;
+import dev.angelcruzl.springboot.testing.exception.DuplicateResourceException;
+import dev.angelcruzl.springboot.testing.exception.TooManyRequestsException;
+import dev.angelcruzl.springboot.testing.model.Employee;
+import dev.angelcruzl.springboot.testing.service.impl.EmployeeWriteBehindServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeWriteBehindServiceTests {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeWriteBehindServiceImpl writeBehindService;
+
+    @Captor
+    private ArgumentCaptor<List<Employee>> written;
+
+    @TempDir
+    private Path directory;
+
+    private Path logFile;
+
+    @BeforeEach
+    public void setUp() {
+        logFile = directory.resolve("write-behind.log");
+        ReflectionTestUtils.setField(writeBehindService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(writeBehindService, "enabled", true);
+        ReflectionTestUtils.setField(writeBehindService, "capacity", 100);
+        ReflectionTestUtils.setField(writeBehindService, "logFile", logFile);
+        ReflectionTestUtils.setField(writeBehindService, "fsync", true);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        writeBehindService.stop();
+    }
+
+    @DisplayName("JUnit test for enqueue method writing the employee in the background")
+    @Test
+    public void givenEmployee_whenEnqueue_thenWriteInBackgroundAndTrackIt() throws Exception {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> created(invocation.getArgument(0)));
+        writeBehindService.start();
+
+        // when - action or the behaviour that we are going test
+        EmployeeWriteStatus accepted = writeBehindService.enqueue(employee("me@angelcruzl.dev"));
+
+        // then - verify the output
+        assertThat(accepted.getState()).isEqualTo(EmployeeWriteStatus.State.PENDING);
+        assertThat(Files.readString(logFile)).contains(accepted.getTrackingId(), "me@angelcruzl.dev");
+        verify(employeeService, timeout(5000)).saveEmployees(anyList());
+        EmployeeWriteStatus written = awaitResolved(accepted.getTrackingId());
+        assertThat(written.getState()).isEqualTo(EmployeeWriteStatus.State.CREATED);
+        assertThat(written.getEmployeeId()).isEqualTo(1L);
+    }
+
+    @DisplayName("JUnit test for enqueue method when the queue is full")
+    @Test
+    public void givenFullQueue_whenEnqueue_thenThrowsException() throws Exception {
+        // given - precondition or setup
+        ReflectionTestUtils.setField(writeBehindService, "capacity", 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created(invocation.getArgument(0));
+        });
+        writeBehindService.start();
+        writeBehindService.enqueue(employee("first@company.com"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or the behaviour that we are going test
+        assertThrows(TooManyRequestsException.class, () -> writeBehindService.enqueue(employee("second@company.com")));
+        release.countDown();
+
+        // then - verify the output
+        verify(employeeService, timeout(5000)).saveEmployees(anyList());
+    }
+
+    @DisplayName("JUnit test for enqueue method when the database rejects one employee for a non-transient reason")
+    @Test
+    public void givenPoisonEmployee_whenEnqueue_thenFailItAndWriteTheRest() throws Exception {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.stream().anyMatch(employee -> employee.getEmail().startsWith("poison"))) {
+                throw new JpaSystemException(new RuntimeException("Row rejected"));
+            }
+            return created(employees);
+        });
+        writeBehindService.start();
+
+        // when - action or the behaviour that we are going test
+        EmployeeWriteStatus poison = writeBehindService.enqueue(employee("poison@company.com"));
+        EmployeeWriteStatus next = writeBehindService.enqueue(employee("next@company.com"));
+
+        // then - verify the output
+        EmployeeWriteStatus failed = awaitResolved(poison.getTrackingId());
+        assertThat(failed.getState()).isEqualTo(EmployeeWriteStatus.State.FAILED);
+        assertThat(failed.getMessage()).isEqualTo("Row rejected");
+        assertThat(awaitResolved(next.getTrackingId()).getState()).isEqualTo(EmployeeWriteStatus.State.CREATED);
+    }
+
+    @DisplayName("JUnit test for enqueue method when the unique index keeps rejecting an email the pre-check misses")
+    @Test
+    public void givenRepeatedDuplicate_whenEnqueue_thenReportItAndWriteTheRest() throws Exception {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList())).willAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.stream().anyMatch(employee -> employee.getEmail().startsWith("TAKEN"))) {
+                throw new DuplicateResourceException("An employee email in this batch was inserted concurrently");
+            }
+            return created(employees);
+        });
+        writeBehindService.start();
+
+        // when - action or the behaviour that we are going test
+        EmployeeWriteStatus taken = writeBehindService.enqueue(employee("TAKEN@company.com"));
+        EmployeeWriteStatus next = writeBehindService.enqueue(employee("next@company.com"));
+
+        // then - verify the output
+        assertThat(awaitResolved(taken.getTrackingId()).getState()).isEqualTo(EmployeeWriteStatus.State.DUPLICATE);
+        assertThat(awaitResolved(next.getTrackingId()).getState()).isEqualTo(EmployeeWriteStatus.State.CREATED);
+    }
+
+    @DisplayName("JUnit test for enqueue method retrying while the database is unreachable")
+    @Test
+    public void givenTransientFailure_whenEnqueue_thenRetryUntilWritten() throws Exception {
+        // given - precondition or setup
+        given(employeeService.saveEmployees(anyList()))
+                .willThrow(new CannotGetJdbcConnectionException("Connection refused"))
+                .willAnswer(invocation -> created(invocation.getArgument(0)));
+        writeBehindService.start();
+
+        // when - action or the behaviour that we are going test
+        EmployeeWriteStatus accepted = writeBehindService.enqueue(employee("me@angelcruzl.dev"));
+
+        // then - verify the output
+        assertThat(awaitResolved(accepted.getTrackingId()).getState()).isEqualTo(EmployeeWriteStatus.State.CREATED);
+        verify(employeeService, times(2)).saveEmployees(anyList());
+    }
+
+    @DisplayName("JUnit test for start method without a log path")
+    @Test
+    public void givenNoLogPath_whenStart_thenThrowsException() {
+        // given - precondition or setup
+        ReflectionTestUtils.setField(writeBehindService, "logFile", null);
+
+        // when - action or the behaviour that we are going test
+        assertThrows(IllegalStateException.class, () -> writeBehindService.start());
+
+        // then - verify the output
+        assertThat(writeBehindService.isRunning()).isFalse();
+    }
+
+    @DisplayName("JUnit test for start method replaying employees a crash left unwritten")
+    @Test
+    public void givenLogFromCrashedRun_whenStart_thenWriteOnlyUnfinishedEmployees() throws Exception {
+        // given - precondition or setup
+        Files.writeString(logFile, String.join("\n",
+                "{\"trackingId\":\"a\",\"employee\":{\"firstName\":\"Angel\",\"lastName\":\"Cruz\",\"email\":\"a@company.com\"}}",
+                "{\"trackingId\":\"b\",\"employee\":{\"firstName\":\"John\",\"lastName\":\"Cena\",\"email\":\"b@company.com\"}}",
+                "{\"done\":[\"a\"]}",
+                "{\"trackingId\":\"c\",\"employee\":{\"firstName\":\"To"));
+        given(employeeService.saveEmployees(written.capture())).willAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // when - action or the behaviour that we are going test
+        writeBehindService.start();
+
+        // then - verify the output
+        verify(employeeService, timeout(5000)).saveEmployees(anyList());
+        assertThat(written.getValue()).extracting(Employee::getEmail).containsExactly("b@company.com");
+        assertThat(awaitResolved("b").getState()).isEqualTo(EmployeeWriteStatus.State.CREATED);
+        assertThat(writeBehindService.getStatus("a")).isEmpty();
+    }
+
+    private EmployeeWriteStatus awaitResolved(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        EmployeeWriteStatus status = writeBehindService.getStatus(trackingId).orElseThrow();
+        while (status.getState() == EmployeeWriteStatus.State.PENDING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = writeBehindService.getStatus(trackingId).orElseThrow();
+        }
+        return status;
+    }
+
+    private static List<EmployeeBatchResult> created(List<Employee> employees) {
+        List<EmployeeBatchResult> results = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            results.add(EmployeeBatchResult.created(i, i + 1L));
+        }
+        return results;
+    }
+
+    private static Employee employee(String email) {
+        return Employee.builder()
+                .firstName("Angel")
+                .lastName("Cruz")
+                .email(email)
+                .build();
+    }
+}